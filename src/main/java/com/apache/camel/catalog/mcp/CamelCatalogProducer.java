@@ -1,15 +1,99 @@
 package com.apache.camel.catalog.mcp;
 
+import com.apache.camel.catalog.mcp.index.CatalogIndex;
+import com.apache.camel.catalog.mcp.index.CatalogSnapshot;
+import com.apache.camel.catalog.mcp.index.SearchIndex;
+import com.apache.camel.catalog.mcp.index.SnapshotJSonSchemaResolver;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.Startup;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
 import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.catalog.DefaultCamelCatalog;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
 
 @ApplicationScoped
 public class CamelCatalogProducer {
 
+    @ConfigProperty(name = "catalog.snapshot.enabled", defaultValue = "true")
+    boolean snapshotEnabled;
+
+    @ConfigProperty(name = "catalog.index.preload", defaultValue = "true")
+    boolean preload;
+
+    private CatalogSnapshot snapshot;
+    private boolean snapshotLoaded;
+
     @Produces
+    @Singleton
     public CamelCatalog camelCatalog() {
-        return new DefaultCamelCatalog(true);
+        DefaultCamelCatalog catalog = new DefaultCamelCatalog(true);
+
+        CatalogSnapshot snapshot = snapshot(catalog);
+        if (snapshot != null) {
+            catalog.setJSonSchemaResolver(new SnapshotJSonSchemaResolver(snapshot, catalog.getJSonSchemaResolver()));
+        }
+        return catalog;
+    }
+
+    /**
+     * The catalog index is created at boot. When preloading is enabled every entry is parsed eagerly so that the
+     * first tool invocation does not pay the parsing cost; otherwise entries are decoded on first use, which keeps
+     * the startup of short-lived (stdio) processes minimal.
+     */
+    @Produces
+    @Singleton
+    @Startup
+    public CatalogIndex catalogIndex(CamelCatalog camelCatalog) {
+        CatalogSnapshot snapshot = snapshot(camelCatalog);
+        CatalogIndex index = snapshot != null ? CatalogIndex.build(snapshot) : CatalogIndex.build(camelCatalog);
+        return preload ? index.preload() : index;
+    }
+
+    /**
+     * The search index needs every catalog entry, it is therefore only built at boot when preloading is enabled,
+     * and on first use otherwise.
+     */
+    @Produces
+    @Singleton
+    public SearchIndex searchIndex(CatalogIndex catalogIndex) {
+        return SearchIndex.build(catalogIndex);
+    }
+
+    void warmUp(@Observes StartupEvent event, Instance<SearchIndex> searchIndex) {
+        if (preload) {
+            searchIndex.get();
+        }
+    }
+
+    /**
+     * Opens the build-time catalog snapshot once, ignoring it when missing or taken from another catalog version.
+     */
+    private synchronized CatalogSnapshot snapshot(CamelCatalog camelCatalog) {
+        if (!snapshotLoaded) {
+            snapshotLoaded = true;
+            if (snapshotEnabled) {
+                try {
+                    CatalogSnapshot loaded = CatalogSnapshot.load(Thread.currentThread().getContextClassLoader());
+                    if (loaded == null) {
+                        Log.infof("No catalog snapshot found on the classpath, using the catalog resources");
+                    } else if (!loaded.version().equals(camelCatalog.getCatalogVersion())) {
+                        Log.warnf("Ignoring catalog snapshot for Camel %s, the bundled catalog is %s",
+                                loaded.version(), camelCatalog.getCatalogVersion());
+                    } else {
+                        snapshot = loaded;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    Log.warnf("Failed to load catalog snapshot, using the catalog resources: %s", e.getMessage());
+                }
+            }
+        }
+        return snapshot;
     }
 }
@@ -1,9 +1,14 @@
 package com.apache.camel.catalog.mcp;
 
+import com.apache.camel.catalog.mcp.index.CatalogIndex;
+import com.apache.camel.catalog.mcp.index.CatalogPool;
+import com.apache.camel.catalog.mcp.index.SearchIndex;
+import com.apache.camel.catalog.mcp.validation.EndpointValidator;
 import com.felipestanzani.jtoon.JToon;
 import io.quarkiverse.mcp.server.McpLog;
 import io.quarkiverse.mcp.server.Tool;
 import io.quarkiverse.mcp.server.ToolArg;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.apache.camel.catalog.CamelCatalog;
@@ -12,22 +17,37 @@ import org.apache.camel.catalog.EndpointValidationResult;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Singleton
 public class CamelCatalogTools {
 
     @Inject
-    private CamelCatalog camelCatalog;
+    private CatalogPool catalogPool;
 
-    public CamelCatalogTools(CamelCatalog camelCatalog) {
-        this.camelCatalog = camelCatalog;
+    @Inject
+    private ResponseCache responseCache;
+
+    @Inject
+    private Instance<SearchIndex> searchIndex;
+
+    @Inject
+    private EndpointValidator endpointValidator;
+
+    public CamelCatalogTools(CatalogPool catalogPool, ResponseCache responseCache, Instance<SearchIndex> searchIndex,
+                             EndpointValidator endpointValidator) {
+        this.catalogPool = catalogPool;
+        this.responseCache = responseCache;
+        this.searchIndex = searchIndex;
+        this.endpointValidator = endpointValidator;
     }
 
     /**
      * Retrieves all available component names from the Camel catalog.
      *
      * @param filter Optional filter string to match component names (case-insensitive). If provided, only components containing this string will be returned.
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return List of all component names available in the catalog, optionally filtered
      */
@@ -36,11 +56,15 @@ public class CamelCatalogTools {
     public String findComponentNames(
             @ToolArg(description = "Optional filter string to match component names (case-insensitive). Only components containing this string will be returned. Leave empty to get all components.", required = false)
             String filter,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: findComponentNames(filter=%s)", filter);
+        log.info("Tool invoked: findComponentNames(filter=%s, version=%s)", filter, version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         try {
-            List<String> componentNames = camelCatalog.findComponentNames();
+            List<String> componentNames = catalogIndex.components().names();
 
             // Apply filter if provided
             if (filter != null && !filter.trim().isEmpty()) {
@@ -60,11 +84,50 @@ public class CamelCatalogTools {
         }
     }
 
+    /**
+     * Searches the whole catalog (components, data formats, languages, EIPs and transformers) by free text.
+     *
+     * @param query Free text to search for in names, titles, labels, descriptions and options
+     * @param kinds Optional kinds to restrict the search to
+     * @param limit Maximum number of results to return
+     * @param log MCP logging instance for tracking tool invocations
+     * @return The best matching catalog entries, ranked by relevance
+     */
+    @Tool(name = "searchCatalog",
+          description = "Searches the whole Apache Camel catalog (components, data formats, languages, EIPs and transformers) by free text, matching names, titles, labels, descriptions and option names and descriptions. Results are ranked by relevance and include the options that match the query. Use this to answer questions like 'which component supports X' in a single call.")
+    public String searchCatalog(
+            @ToolArg(description = "Free text to search for (e.g., 'aws queue', 'oauth token', 'poll database'). Words are matched as prefixes.")
+            String query,
+            @ToolArg(description = "Optional list of kinds to restrict the search to: 'component', 'dataformat', 'language', 'eip', 'transformer'. Leave empty to search everything.", required = false)
+            List<String> kinds,
+            @ToolArg(description = "Maximum number of results to return (optional, defaults to 10).", required = false)
+            Integer limit,
+            McpLog log) {
+        log.info("Tool invoked: searchCatalog(query=%s, kinds=%s, limit=%s)", query, kinds, limit);
+
+        if (query == null || query.trim().isEmpty()) {
+            log.error("Search query cannot be null or empty");
+            throw new IllegalArgumentException("Search query is required");
+        }
+
+        try {
+            List<SearchIndex.Result> results = searchIndex.get().search(query,
+                    kinds != null ? Set.copyOf(kinds) : null,
+                    limit != null && limit > 0 ? limit : 10);
+            log.debug("Search for '%s' returned %s result(s)", query, results.size());
+            return JToon.encode(results);
+        } catch (Exception e) {
+            log.error("Error searching catalog for '%s': %s", query, e.getMessage(), e);
+            throw new RuntimeException("Failed to search catalog for '" + query + "'", e);
+        }
+    }
+
     /**
      * Retrieves the JSON schema for a specific Camel data format, including all available
      * properties, options, and configuration details.
      *
      * @param dataFormatName Name of the Camel data format
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return JSON schema string describing the data format's configuration options
      */
@@ -73,8 +136,12 @@ public class CamelCatalogTools {
     public String dataFormatProperties(
             @ToolArg(description = "The name of the Camel data format to query (e.g., 'json', 'xml', 'csv', 'avro').")
             String dataFormatName,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: dataFormatProperties(dataFormatName=%s)", dataFormatName);
+        log.info("Tool invoked: dataFormatProperties(dataFormatName=%s, version=%s)", dataFormatName, version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         if (dataFormatName == null || dataFormatName.trim().isEmpty()) {
             log.debug("Data format name cannot be null or empty");
@@ -84,7 +151,7 @@ public class CamelCatalogTools {
         log.debug("Retrieving data format schema for: '%s'", dataFormatName);
 
         try {
-            String schema = camelCatalog.dataFormatJSonSchema(dataFormatName);
+            String schema = catalogIndex.dataFormats().schema(dataFormatName);
 
             if (schema == null || schema.isEmpty()) {
                 log.error("No schema found for data format: '%s'", dataFormatName);
@@ -95,7 +162,7 @@ public class CamelCatalogTools {
                      dataFormatName, schema.length());
             log.debug("Schema preview: %s", schema.substring(0, Math.min(100, schema.length())) + "...");
 
-            return JToon.encodeJson(schema);
+            return responseCache.get("dataFormatProperties", dataFormatName, catalogIndex.version(), () -> JToon.encodeJson(schema)).text();
         } catch (IllegalArgumentException e) {
             // Re-throw validation exceptions
             throw e;
@@ -108,16 +175,22 @@ public class CamelCatalogTools {
     /**
      * Retrieves all available data format names from the Camel catalog.
      *
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return List of all data format names available in the catalog
      */
     @Tool(name = "findDataFormatNames",
           description = "Discovers all available Apache Camel data format names in the catalog. Use this to explore available data transformation formats for message processing.")
-    public String findDataFormatNames(McpLog log) {
-        log.info("Tool invoked: findDataFormatNames()");
+    public String findDataFormatNames(
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
+            McpLog log) {
+        log.info("Tool invoked: findDataFormatNames(version=%s)", version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         try {
-            List<String> dataFormatNames = camelCatalog.findDataFormatNames();
+            List<String> dataFormatNames = catalogIndex.dataFormats().names();
             log.debug("Successfully retrieved %s data format name(s)", dataFormatNames != null ? dataFormatNames.size() : 0);
             return JToon.encode(dataFormatNames);
         } catch (Exception e) {
@@ -131,6 +204,7 @@ public class CamelCatalogTools {
      * properties, options, and configuration details.
      *
      * @param languageName Name of the Camel language
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return JSON schema string describing the language's configuration options
      */
@@ -139,8 +213,12 @@ public class CamelCatalogTools {
     public String languageProperties(
             @ToolArg(description = "The name of the Camel language to query (e.g., 'simple', 'xpath', 'jsonpath', 'groovy').")
             String languageName,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: languageProperties(languageName=%s)", languageName);
+        log.info("Tool invoked: languageProperties(languageName=%s, version=%s)", languageName, version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         if (languageName == null || languageName.trim().isEmpty()) {
             log.error("Language name cannot be null or empty");
@@ -150,7 +228,7 @@ public class CamelCatalogTools {
         log.debug("Retrieving language schema for: '%s'", languageName);
 
         try {
-            String schema = camelCatalog.languageJSonSchema(languageName);
+            String schema = catalogIndex.languages().schema(languageName);
 
             if (schema == null || schema.isEmpty()) {
                 log.error("No schema found for language: '%s'", languageName);
@@ -161,7 +239,7 @@ public class CamelCatalogTools {
                      languageName, schema.length());
             log.debug("Schema preview: %s", schema.substring(0, Math.min(100, schema.length())) + "...");
 
-            return JToon.encodeJson(schema);
+            return responseCache.get("languageProperties", languageName, catalogIndex.version(), () -> JToon.encodeJson(schema)).text();
         } catch (IllegalArgumentException e) {
             // Re-throw validation exceptions
             throw e;
@@ -174,16 +252,22 @@ public class CamelCatalogTools {
     /**
      * Retrieves all available language names from the Camel catalog.
      *
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return List of all language names available in the catalog
      */
     @Tool(name = "findLanguageNames",
           description = "Discovers all available Apache Camel expression language names in the catalog.")
-    public String findLanguageNames(McpLog log) {
-        log.info("Tool invoked: findLanguageNames()");
+    public String findLanguageNames(
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
+            McpLog log) {
+        log.info("Tool invoked: findLanguageNames(version=%s)", version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         try {
-            List<String> languageNames = camelCatalog.findLanguageNames();
+            List<String> languageNames = catalogIndex.languages().names();
             log.debug("Successfully retrieved %s language name(s)", languageNames != null ? languageNames.size() : 0);
             return JToon.encode(languageNames);
         } catch (Exception e) {
@@ -197,6 +281,7 @@ public class CamelCatalogTools {
      * properties, options, and configuration details.
      *
      * @param modelName Name of the Camel EIP model
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return JSON schema string describing the EIP model's configuration options
      */
@@ -205,8 +290,12 @@ public class CamelCatalogTools {
     public String modelProperties(
             @ToolArg(description = "The name of the Camel EIP model to query (e.g., 'choice', 'split', 'aggregate', 'multicast', 'enrich').")
             String modelName,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: modelProperties(modelName=%s)", modelName);
+        log.info("Tool invoked: modelProperties(modelName=%s, version=%s)", modelName, version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         if (modelName == null || modelName.trim().isEmpty()) {
             log.debug("Model name cannot be null or empty");
@@ -216,7 +305,7 @@ public class CamelCatalogTools {
         log.debug("Retrieving model schema for: '%s'", modelName);
 
         try {
-            String schema = camelCatalog.modelJSonSchema(modelName);
+            String schema = catalogIndex.models().schema(modelName);
 
             if (schema == null || schema.isEmpty()) {
                 log.error("No schema found for model: '%s'", modelName);
@@ -227,7 +316,7 @@ public class CamelCatalogTools {
                      modelName, schema.length());
             log.debug("Schema preview: %s", schema.substring(0, Math.min(100, schema.length())) + "...");
 
-            return JToon.encodeJson(schema);
+            return responseCache.get("modelProperties", modelName, catalogIndex.version(), () -> JToon.encodeJson(schema)).text();
         } catch (IllegalArgumentException e) {
             // Re-throw validation exceptions
             throw e;
@@ -240,16 +329,22 @@ public class CamelCatalogTools {
     /**
      * Retrieves all available model (EIP pattern) names from the Camel catalog.
      *
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return List of all EIP model names available in the catalog
      */
     @Tool(name = "findModelNames",
           description = "Discovers all available Apache Camel EIP (Enterprise Integration Pattern) model names in the catalog. EIP patterns define routing and mediation rules (e.g., choice, split, aggregate, enrich, multicast). Use this to explore available integration patterns for building Camel routes.")
-    public String findModelNames(McpLog log) {
-        log.info("Tool invoked: findModelNames()");
+    public String findModelNames(
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
+            McpLog log) {
+        log.info("Tool invoked: findModelNames(version=%s)", version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         try {
-            List<String> modelNames = camelCatalog.findModelNames();
+            List<String> modelNames = catalogIndex.models().names();
             log.debug("Successfully retrieved %s model name(s)", modelNames != null ? modelNames.size() : 0);
             return JToon.encode(modelNames);
         } catch (Exception e) {
@@ -263,6 +358,7 @@ public class CamelCatalogTools {
      * properties, options, and configuration details.
      *
      * @param transformerName Name of the Camel transformer
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return JSON schema string describing the transformer's configuration options
      */
@@ -271,8 +367,12 @@ public class CamelCatalogTools {
     public String transformerProperties(
             @ToolArg(description = "The name of the Camel transformer to query.")
             String transformerName,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: transformerProperties(transformerName=%s)", transformerName);
+        log.info("Tool invoked: transformerProperties(transformerName=%s, version=%s)", transformerName, version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         if (transformerName == null || transformerName.trim().isEmpty()) {
             log.error("Transformer name cannot be null or empty");
@@ -282,7 +382,7 @@ public class CamelCatalogTools {
         log.debug("Retrieving transformer schema for: '%s'", transformerName);
 
         try {
-            String schema = camelCatalog.transformerJSonSchema(transformerName);
+            String schema = catalogIndex.transformers().schema(transformerName);
 
             if (schema == null || schema.isEmpty()) {
                 log.error("No schema found for transformer: '%s'", transformerName);
@@ -293,7 +393,7 @@ public class CamelCatalogTools {
                      transformerName, schema.length());
             log.debug("Schema preview: %s", schema.substring(0, Math.min(100, schema.length())) + "...");
 
-            return JToon.encodeJson(schema);
+            return responseCache.get("transformerProperties", transformerName, catalogIndex.version(), () -> JToon.encodeJson(schema)).text();
         } catch (IllegalArgumentException e) {
             // Re-throw validation exceptions
             throw e;
@@ -306,16 +406,22 @@ public class CamelCatalogTools {
     /**
      * Retrieves all available transformer names from the Camel catalog.
      *
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return List of all transformer names available in the catalog
      */
     @Tool(name = "findTransformerNames",
           description = "Discovers all available Apache Camel transformer names in the catalog. Transformers handle data type conversions and message transformations between different formats. Use this to explore available transformation capabilities for data conversion in routes.")
-    public String findTransformerNames(McpLog log) {
-        log.info("Tool invoked: findTransformerNames()");
+    public String findTransformerNames(
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
+            McpLog log) {
+        log.info("Tool invoked: findTransformerNames(version=%s)", version);
+
+        CatalogIndex catalogIndex = catalogPool.get(version).index();
 
         try {
-            List<String> transformerNames = camelCatalog.findTransformerNames();
+            List<String> transformerNames = catalogIndex.transformers().names();
             log.debug("Successfully retrieved %s transformer name(s)", transformerNames != null ? transformerNames.size() : 0);
 
             return JToon.encode(transformerNames);
@@ -329,6 +435,7 @@ public class CamelCatalogTools {
      * Validates endpoint URI properties and returns detailed validation results.
      *
      * @param uri The Camel endpoint URI to validate
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return EndpointValidationResult containing validation status, errors, and parsed properties
      */
@@ -337,8 +444,12 @@ public class CamelCatalogTools {
     public String validateEndpointProperties(
             @ToolArg(description = "The Camel endpoint URI to validate (e.g., 'kafka:my-topic?brokers=localhost:9092', 'file:/data/inbox?delay=5000').")
             String uri,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: validateEndpointProperties(uri=%s)", uri);
+        log.info("Tool invoked: validateEndpointProperties(uri=%s, version=%s)", uri, version);
+
+        CamelCatalog camelCatalog = catalogPool.get(version).catalog();
 
         if (uri == null || uri.trim().isEmpty()) {
             log.error("Endpoint URI cannot be null or empty");
@@ -363,10 +474,47 @@ public class CamelCatalogTools {
         }
     }
 
+    /**
+     * Validates a batch of Camel endpoint URIs in parallel.
+     *
+     * @param uris The Camel endpoint URIs to validate
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
+     * @param log MCP logging instance for tracking tool invocations
+     * @return One validation summary per URI, in input order
+     */
+    @Tool(name = "validateEndpoints",
+          description = "Validates a list of Camel endpoint URIs in one call and returns one summary per URI, in input order, with whether it is valid, the number of errors and warnings, and a description of the problems found. Use this instead of repeated validateEndpointProperties calls when checking all endpoints of a route or project.")
+    public String validateEndpoints(
+            @ToolArg(description = "The Camel endpoint URIs to validate (e.g., ['kafka:my-topic?brokers=localhost:9092', 'file:/data/inbox?delay=5000']).")
+            List<String> uris,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
+            McpLog log) {
+        log.info("Tool invoked: validateEndpoints(uris=%s, version=%s)", uris != null ? uris.size() : null, version);
+
+        if (uris == null || uris.isEmpty()) {
+            log.error("Endpoint URI list cannot be null or empty");
+            throw new IllegalArgumentException("At least one endpoint URI is required");
+        }
+
+        CamelCatalog camelCatalog = catalogPool.get(version).catalog();
+
+        try {
+            List<EndpointValidator.Summary> summaries = endpointValidator.validate(camelCatalog, uris);
+            log.debug("Validated %s endpoint URI(s), %s invalid", summaries.size(),
+                    summaries.stream().filter(summary -> !summary.valid()).count());
+            return JToon.encode(summaries);
+        } catch (Exception e) {
+            log.error("Error validating endpoint URIs: %s", e.getMessage(), e);
+            throw new RuntimeException("Failed to validate endpoint URIs", e);
+        }
+    }
+
     /**
      * Parses an endpoint URI and extracts all properties as key-value pairs.
      *
      * @param uri The Camel endpoint URI to parse
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return Map of property names to values extracted from the URI
      */
@@ -375,8 +523,12 @@ public class CamelCatalogTools {
     public String endpointProperties(
             @ToolArg(description = "The Camel endpoint URI to parse (e.g., 'kafka:my-topic?brokers=localhost:9092', 'timer:tick?period=1000').")
             String uri,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: endpointProperties(uri=%s)", uri);
+        log.info("Tool invoked: endpointProperties(uri=%s, version=%s)", uri, version);
+
+        CamelCatalog camelCatalog = catalogPool.get(version).catalog();
 
         if (uri == null || uri.trim().isEmpty()) {
             log.error("Endpoint URI cannot be null or empty");
@@ -403,6 +555,7 @@ public class CamelCatalogTools {
      * Extracts the component name (scheme) from a Camel endpoint URI.
      *
      * @param uri The Camel endpoint URI
+     * @param version Optional Camel version of the catalog to query, defaults to the bundled catalog
      * @param log MCP logging instance for tracking tool invocations
      * @return The component name/scheme from the URI, or null if it cannot be determined
      */
@@ -411,8 +564,12 @@ public class CamelCatalogTools {
     public String endpointComponentName(
             @ToolArg(description = "The Camel endpoint URI to extract the component name from (e.g., 'kafka:my-topic', 'jms:queue:orders').")
             String uri,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false)
+            String version,
             McpLog log) {
-        log.info("Tool invoked: endpointComponentName(uri=%s)", uri);
+        log.info("Tool invoked: endpointComponentName(uri=%s, version=%s)", uri, version);
+
+        CamelCatalog camelCatalog = catalogPool.get(version).catalog();
 
         if (uri == null || uri.trim().isEmpty()) {
             log.error("Endpoint URI cannot be null or empty");
@@ -449,7 +606,7 @@ public class CamelCatalogTools {
         log.info("Tool invoked: getCatalogVersion()");
 
         try {
-            String version = camelCatalog.getCatalogVersion();
+            String version = catalogPool.bundled().catalog().getCatalogVersion();
             log.debug("Catalog version: '%s'", version);
             return version;
         } catch (Exception e) {
@@ -458,6 +615,27 @@ public class CamelCatalogTools {
         }
     }
 
+    /**
+     * Lists the Camel versions whose catalog can be queried through the optional {@code version} tool argument.
+     *
+     * @param log MCP logging instance for tracking tool invocations
+     * @return The bundled version and every version with a catalog available locally
+     */
+    @Tool(name = "findCatalogVersions",
+          description = "Lists the Camel versions whose catalog can be queried by passing the 'version' argument to the catalog tools: the bundled catalog version and every camel-catalog version available in the local Maven repository or catalog cache directory.")
+    public String findCatalogVersions(McpLog log) {
+        log.info("Tool invoked: findCatalogVersions()");
+
+        try {
+            List<String> versions = catalogPool.availableVersions();
+            log.debug("Found %s catalog version(s)", versions.size());
+            return JToon.encode(versions);
+        } catch (Exception e) {
+            log.error("Error listing catalog versions: %s", e.getMessage(), e);
+            throw new RuntimeException("Failed to list catalog versions", e);
+        }
+    }
+
     /**
      * Gets the currently loaded Camel version in the catalog.
      *
@@ -470,7 +648,7 @@ public class CamelCatalogTools {
         log.info("Tool invoked: getLoadedVersion()");
 
         try {
-            String version = camelCatalog.getLoadedVersion();
+            String version = catalogPool.bundled().catalog().getLoadedVersion();
             log.debug("Loaded Camel version: '%s'", version);
             return version;
         } catch (Exception e) {
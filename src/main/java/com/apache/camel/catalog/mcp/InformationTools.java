@@ -1,8 +1,13 @@
 package com.apache.camel.catalog.mcp;
 
+import com.apache.camel.catalog.mcp.docs.ComponentDocumentationService;
+import com.apache.camel.catalog.mcp.docs.MarkdownSections;
 import com.apache.camel.catalog.mcp.exceptions.ComponentNotFoundException;
+import com.apache.camel.catalog.mcp.index.CatalogIndex;
+import com.apache.camel.catalog.mcp.index.CatalogPool;
+import com.apache.camel.catalog.mcp.index.NameMatcher;
+import com.apache.camel.catalog.mcp.index.OptionIndex;
 import com.felipestanzani.jtoon.JToon;
-import com.vladsch.flexmark.html2md.converter.FlexmarkHtmlConverter;
 import io.quarkiverse.mcp.server.Tool;
 import io.quarkiverse.mcp.server.ToolArg;
 import io.quarkiverse.mcp.server.ToolResponse;
@@ -10,36 +15,48 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
-import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.BaseOptionModel;
 import org.apache.camel.tooling.model.ComponentModel;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 @Singleton
 public class InformationTools {
 
+    private static final int MAX_SUGGESTIONS = 5;
+
+    private static final List<OptionField> ENDPOINT_OPTION_FIELDS = List.of(
+            OptionField.NAME, OptionField.KIND, OptionField.DESCRIPTION, OptionField.TYPE, OptionField.DEFAULT_VALUE);
+    private static final List<OptionField> COMPONENT_OPTION_FIELDS = List.of(OptionField.NAME, OptionField.DESCRIPTION);
+
     @Inject
-    private CamelCatalog camelCatalog;
+    private CatalogPool catalogPool;
 
-    public InformationTools(CamelCatalog camelCatalog) {
-        this.camelCatalog = camelCatalog;
+    @Inject
+    private ComponentDocumentationService documentationService;
+
+    public InformationTools(CatalogPool catalogPool, ComponentDocumentationService documentationService) {
+        this.catalogPool = catalogPool;
+        this.documentationService = documentationService;
     }
 
     @Tool(description = "Fetches detailed documentation for a specific Apache Camel component. Use this to understand its purpose, support level, maven artifact, headers, and URI syntax.")
-    public String getInformationAboutComponent(@ToolArg(description = "The scheme name of the component. For example: 'file', 'kafka', or 'jms'.") String componentName) {
-        io.quarkus.logging.Log.infof("Tool invoked: getInformationAboutComponent(componentName=%s)", componentName);
+    public String getInformationAboutComponent(@ToolArg(description = "The scheme name of the component. For example: 'file', 'kafka', or 'jms'.") String componentName,
+                                               @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false) String version) {
+        io.quarkus.logging.Log.infof("Tool invoked: getInformationAboutComponent(componentName=%s, version=%s)", componentName, version);
         final ComponentModel componentModel;
         try {
-            componentModel = findComponent(componentName);
+            componentModel = findComponent(componentName, version);
         } catch (ComponentNotFoundException e) {
             return JToon.encode(e.getMessage());
         }
 
         JsonObject reply = new JsonObject();
+        putResolutionNote(reply, componentName, componentModel);
         reply.put("kind", componentModel.getKind().toString());
         reply.put("name", componentModel.getName());
         reply.put("title", componentModel.getTitle());
@@ -55,100 +72,168 @@ public class InformationTools {
     }
 
 
-    // This confuses the models, so have become an option of the getInfomrationAboutComponent
-    private String getInformationAboutComponentOptions(String componentName) {
-        final ComponentModel componentModel;
-        try {
-            componentModel = findComponent(componentName);
-        } catch (ComponentNotFoundException e) {
-            return JToon.encode(e.getMessage());
-        }
-
-        JsonObject reply = new JsonObject();
-        JsonArray array = new JsonArray();
-        final List<ComponentModel.ComponentOptionModel> componentOptions = componentModel.getComponentOptions();
-        for (var option : componentOptions) {
-            JsonObject optionObj = new JsonObject();
-            optionObj.put("name", option.getName());
-            optionObj.put("description", option.getDescription());
-
-            array.add(optionObj);
+    @Tool(description = "Fetches the full metadata of a single option of a specific Apache Camel component: its kind, group, label, type, Java type, "
+            + "allowed values, default value, whether it is required, secret or deprecated, and its description. Use this instead of listing all the options when you need only one.")
+    public ToolResponse getInformationAboutOption(
+            @ToolArg(description = "The scheme name of the component. For example: 'file', 'kafka', or 'jms'.") String componentName,
+            @ToolArg(description = "The name of the option, for example 'brokers' or 'bridgeErrorHandler'. The property form 'bridge-error-handler' is accepted too.") String optionName,
+            @ToolArg(description = "Optional category of the option: 'component' (bean property) or 'endpoint' (URI parameter). Defaults to the endpoint option, else the component option of that name.", required = false) String category,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false) String version) {
+        io.quarkus.logging.Log.infof("Tool invoked: getInformationAboutOption(componentName=%s, optionName=%s, category=%s, version=%s)",
+                componentName, optionName, category, version);
+        if (category != null && !category.isBlank() && !"component".equals(category) && !"endpoint".equals(category)) {
+            return ToolResponse.error("Unknown category '" + category + "'. Supported categories: component, endpoint");
         }
-
-        reply.put("options", array);
-
-        return JToon.encode(reply);
-    }
-
-
-    private ToolResponse getInformationAboutSpecificComponentOption(String componentName, String optionName) {
         final ComponentModel componentModel;
         try {
-            componentModel = findComponent(componentName);
+            componentModel = findComponent(componentName, version);
         } catch (ComponentNotFoundException e) {
             return ToolResponse.error(e.getMessage());
         }
 
-        JsonObject reply = new JsonObject();
-        final List<ComponentModel.ComponentOptionModel> componentOptions = componentModel.getComponentOptions();
-        final ComponentModel.ComponentOptionModel option =
-                componentOptions.stream().filter(c -> c.getName().equals(optionName)).findFirst().get();
-
-        reply.put("name", option.getName());
-        reply.put("description", option.getDescription());
-        reply.put("kind", option.getKind());
-        reply.put("type", option.getType());
-        reply.put("defaultValue", option.getDefaultValue());
+        final OptionIndex options = catalogPool.get(version).index().componentOptions(componentModel.getName());
+        final String name = optionName != null ? optionName.strip() : null;
+        BaseOptionModel option = null;
+        String optionCategory = null;
+        if (!"component".equals(category)) {
+            option = options.endpointOption(name);
+            optionCategory = "endpoint";
+        }
+        if (option == null && !"endpoint".equals(category)) {
+            option = options.componentOption(name);
+            optionCategory = "component";
+        }
+        if (option == null) {
+            final List<String> suggestions = name != null ? options.closest(name, MAX_SUGGESTIONS) : List.of();
+            return ToolResponse.error("The component " + componentModel.getName() + " has no option " + optionName
+                    + (suggestions.isEmpty() ? "" : ". Did you mean: " + String.join(", ", suggestions) + "?"));
+        }
 
+        ToonWriter reply = new ToonWriter();
+        final String note = resolutionNote(componentName, componentModel);
+        if (note != null) {
+            reply.field("note", note);
+        }
+        reply.field("component", componentModel.getName());
+        reply.field("category", optionCategory);
+        for (OptionField field : OptionField.values()) {
+            if (field == OptionField.ENUM) {
+                if (option.getEnums() != null && !option.getEnums().isEmpty()) {
+                    reply.array(field.fieldName(), option.getEnums());
+                }
+                continue;
+            }
+            final Object value = field.value(option);
+            if (value != null) {
+                reply.field(field.fieldName(), value);
+            }
+        }
         return ToolResponse.success(reply.toString());
     }
 
-
-    @Tool(description = "Lists all configurable options for a specific Apache Camel component. It can filter by type: 'component' properties or 'endpoint' URI parameters.")
-    public String getInformationAboutOptions(@ToolArg(description = "The scheme name of the component. For example: 'file' or 'http'.") String componentName, @ToolArg(description = "The category of options to list: 'component' (bean properties) or 'endpoint' (URI parameters). Defaults to 'endpoint'.", defaultValue = "endpoint") String category) {
-        io.quarkus.logging.Log.infof("Tool invoked: getInformationAboutOptions(componentName=%s, category=%s)", componentName, category);
-        if (category.equals("component")) {
-            return getInformationAboutComponentOptions(componentName);
+    @Tool(description = "Lists the configurable options of a specific Apache Camel component: 'component' properties or 'endpoint' URI parameters. "
+            + "Large components have hundreds of options: select only the fields you need, filter by group, label, kind or consumer/producer usage, and page through the results with offset and limit.")
+    public String getInformationAboutOptions(@ToolArg(description = "The scheme name of the component. For example: 'file' or 'http'.") String componentName, @ToolArg(description = "The category of options to list: 'component' (bean properties) or 'endpoint' (URI parameters). Defaults to 'endpoint'.", defaultValue = "endpoint") String category,
+                                             @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false) String version,
+                                             @ToolArg(description = "Optional fields to return for each option, among: name, kind, displayName, group, label, required, type, javaType, enum, defaultValue, description, prefix, multiValue, secret, autowired, deprecated, deprecationNote, supportFileReference, largeInput. Defaults to name, kind, description, type and defaultValue for endpoint options, and name and description for component options.", required = false) List<String> fields,
+                                             @ToolArg(description = "Optional group of the options to list (case-insensitive), for example 'consumer', 'producer (advanced)', 'common' or 'security'.", required = false) String group,
+                                             @ToolArg(description = "Optional label of the options to list (case-insensitive), for example 'advanced' or 'security'.", required = false) String label,
+                                             @ToolArg(description = "Optional kind of the endpoint options to list: 'path' (part of the URI path) or 'parameter' (URI query parameter).", required = false) String kind,
+                                             @ToolArg(description = "Optional side of the endpoint to list the options of: 'consumer' or 'producer'. Options common to both sides are included.", required = false) String usage,
+                                             @ToolArg(description = "Number of matching options to skip (optional, defaults to 0)", required = false) Integer offset,
+                                             @ToolArg(description = "Maximum number of options to return (optional, defaults to all)", required = false) Integer limit) {
+        io.quarkus.logging.Log.infof("Tool invoked: getInformationAboutOptions(componentName=%s, category=%s, version=%s, fields=%s, group=%s, label=%s, kind=%s, usage=%s, offset=%s, limit=%s)",
+                componentName, category, version, fields, group, label, kind, usage, offset, limit);
+        final boolean component = "component".equals(category);
+        if (usage != null && !usage.isBlank() && !"consumer".equalsIgnoreCase(usage) && !"producer".equalsIgnoreCase(usage)) {
+            return JToon.encode("Unknown usage '" + usage + "'. Supported usages: consumer, producer");
+        }
+        final List<OptionField> selectedFields;
+        try {
+            selectedFields = fields != null && !fields.isEmpty() ? OptionField.of(fields)
+                    : component ? COMPONENT_OPTION_FIELDS : ENDPOINT_OPTION_FIELDS;
+        } catch (IllegalArgumentException e) {
+            return JToon.encode(e.getMessage());
         }
 
         final ComponentModel componentModel;
         try {
-            componentModel = findComponent(componentName);
+            componentModel = findComponent(componentName, version);
         } catch (ComponentNotFoundException e) {
             return JToon.encode(e.getMessage());
         }
 
-        JsonObject reply = new JsonObject();
-        JsonArray array = new JsonArray();
-        final List<ComponentModel.EndpointOptionModel> componentOptions = componentModel.getEndpointOptions();
-        for (var option : componentOptions) {
-            JsonObject optionObj = new JsonObject();
-            optionObj.put("name", option.getName());
-            optionObj.put("kind", option.getKind());
-            optionObj.put("description", option.getDescription());
-            optionObj.put("type", option.getType());
-            optionObj.put("defaultValue", option.getDefaultValue());
-
-            array.add(optionObj);
+        // select the options first, so that the table header can give their number, then write them in one pass
+        final List<? extends BaseOptionModel> options = component
+                ? componentModel.getComponentOptions() : componentModel.getEndpointOptions();
+        final List<BaseOptionModel> matching = new ArrayList<>();
+        for (BaseOptionModel option : options) {
+            if (matches(option, group, label, kind, usage)) {
+                matching.add(option);
+            }
         }
+        final int from = Math.min(offset != null ? Math.max(0, offset) : 0, matching.size());
+        final int to = limit != null && limit > 0 ? (int) Math.min((long) from + limit, matching.size()) : matching.size();
 
-        reply.put("options", array);
+        ToonWriter reply = new ToonWriter();
+        final String note = resolutionNote(componentName, componentModel);
+        if (note != null) {
+            reply.field("note", note);
+        }
+        if (from > 0 || to < matching.size()) {
+            reply.field("total", matching.size());
+            reply.field("offset", from);
+        }
+        reply.table("options", OptionField.names(selectedFields), to - from);
+        for (BaseOptionModel option : matching.subList(from, to)) {
+            reply.row();
+            for (OptionField field : selectedFields) {
+                reply.cell(field.value(option));
+            }
+        }
+        return reply.toString();
+    }
 
-        return JToon.encodeJson(reply.toString());
+    private static boolean matches(BaseOptionModel option, String group, String label, String kind, String usage) {
+        if (group != null && !group.isBlank() && !group.strip().equalsIgnoreCase(option.getGroup())) {
+            return false;
+        }
+        if (kind != null && !kind.isBlank() && !kind.strip().equalsIgnoreCase(option.getKind())) {
+            return false;
+        }
+        if (label != null && !label.isBlank()
+                && (option.getLabel() == null || Arrays.stream(option.getLabel().split(","))
+                .noneMatch(candidate -> candidate.strip().equalsIgnoreCase(label.strip())))) {
+            return false;
+        }
+        return usage == null || usage.isBlank() || appliesTo(option, usage.strip().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Whether an option applies to the given side of an endpoint: every option does, except the ones whose group or
+     * label only names the other side.
+     */
+    private static boolean appliesTo(BaseOptionModel option, String side) {
+        String other = "consumer".equals(side) ? "producer" : "consumer";
+        String tags = ((option.getGroup() != null ? option.getGroup() : "") + ","
+                + (option.getLabel() != null ? option.getLabel() : "")).toLowerCase(Locale.ROOT);
+        return !tags.contains(other) || tags.contains(side);
     }
 
     @Tool(description = "Fetches the Maven and Gradle dependency snippets for a specific Apache Camel component. Use this to find the correct code to add to a project's build file.")
     public ToolResponse getDependency(
-            @ToolArg(description = "The scheme name of the component. For example: 'file', 'kafka', or 'jms'.") String componentName) {
-        io.quarkus.logging.Log.infof("Tool invoked: getDependency(componentName=%s)", componentName);
+            @ToolArg(description = "The scheme name of the component. For example: 'file', 'kafka', or 'jms'.") String componentName,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false) String version) {
+        io.quarkus.logging.Log.infof("Tool invoked: getDependency(componentName=%s, version=%s)", componentName, version);
         final ComponentModel componentModel;
         try {
-            componentModel = findComponent(componentName);
+            componentModel = findComponent(componentName, version);
         } catch (ComponentNotFoundException e) {
             return ToolResponse.error(e.getMessage());
         }
 
         JsonObject reply = new JsonObject();
+        putResolutionNote(reply, componentName, componentModel);
         reply.put("groupId", componentModel.getGroupId());
         reply.put("artifactId", componentModel.getArtifactId());
         reply.put("version", componentModel.getVersion());
@@ -156,135 +241,124 @@ public class InformationTools {
         return ToolResponse.success(reply.toString());
     }
 
-    private ComponentModel findComponent(String componentName) throws ComponentNotFoundException {
-        final String adjustedComponentName = componentName.toLowerCase();
-
-        ComponentModel componentModel = camelCatalog.componentModel(adjustedComponentName);
-
-        if (componentModel == null) {
-            if (componentName.startsWith("camel-")) {
-                componentModel =  camelCatalog.componentModel(adjustedComponentName.replace("camel-", ""));
-                if (componentModel == null) {
-                    throw new ComponentNotFoundException("The component name " + componentName + " does not exist");
-                }
-            }
-        }
-
-        return componentModel;
-    }
-
     /**
-     * Extracts the major.minor version from a version string (e.g., "4.9.0" -> "4.9", "4.10.1" -> "4.10")
+     * A note telling that the component name given does not exist and was resolved to the closest component, or
+     * {@code null} if the component was found under that name.
      */
-    private String extractMajorMinorVersion(String version) {
-        String[] parts = version.split("\\.");
-        if (parts.length >= 2) {
-            return parts[0] + "." + parts[1];
+    private static String resolutionNote(String componentName, ComponentModel componentModel) {
+        final String name = componentName.toLowerCase();
+        if (name.equals(componentModel.getName()) || name.equals("camel-" + componentModel.getName())) {
+            return null;
         }
-        // Fallback if version format is unexpected
-        return version;
+        return "The component " + componentName + " does not exist, resolved to " + componentModel.getName();
     }
 
-    /**
-     * Cleans up markdown by removing excessive whitespace and formatting issues
-     */
-    private String cleanupMarkdown(String markdown) {
-        if (markdown == null || markdown.isEmpty()) {
-            return markdown;
+    private static void putResolutionNote(JsonObject reply, String componentName, ComponentModel componentModel) {
+        final String note = resolutionNote(componentName, componentModel);
+        if (note != null) {
+            reply.put("note", note);
         }
+    }
 
-        // Remove consecutive blank lines (more than 2 newlines in a row)
-        // Keep maximum of 2 newlines (one blank line between sections)
-        markdown = markdown.replaceAll("\n{3,}", "\n\n");
+    private ComponentModel findComponent(String componentName, String version) throws ComponentNotFoundException {
+        final String adjustedComponentName = componentName.toLowerCase();
+        final CatalogIndex catalogIndex = catalogPool.get(version).index();
 
-        // Remove consecutive spaces (more than 2 spaces)
-        // Preserve double spaces at end of lines for markdown line breaks
-        markdown = markdown.replaceAll("(?<!\\n) {3,}", " ");
+        ComponentModel componentModel = catalogIndex.components().model(adjustedComponentName);
 
-        // Clean up spaces before newlines
-        markdown = markdown.replaceAll(" +\n", "\n");
+        if (componentModel == null && adjustedComponentName.startsWith("camel-")) {
+            componentModel = catalogIndex.components().model(adjustedComponentName.substring("camel-".length()));
+        }
 
-        // Clean up tabs and replace with spaces
-        markdown = markdown.replaceAll("\t", "    ");
+        if (componentModel == null) {
+            final String lookupName = adjustedComponentName.startsWith("camel-")
+                    ? adjustedComponentName.substring("camel-".length()) : adjustedComponentName;
+            final NameMatcher matcher = catalogIndex.components().matcher();
+
+            final String resolved = matcher.resolve(lookupName);
+            if (resolved != null) {
+                io.quarkus.logging.Log.infof("Resolved unknown component name %s to %s", componentName, resolved);
+                return catalogIndex.components().model(resolved);
+            }
 
-        // Remove trailing whitespace from the entire document
-        markdown = markdown.trim();
+            final List<String> suggestions = matcher.closest(lookupName, MAX_SUGGESTIONS).stream()
+                    .map(NameMatcher.Match::name)
+                    .toList();
+            if (suggestions.isEmpty()) {
+                throw new ComponentNotFoundException("The component name " + componentName + " does not exist");
+            }
+            throw new ComponentNotFoundException("The component name " + componentName + " does not exist. Did you mean: "
+                    + String.join(", ", suggestions) + "?");
+        }
 
-        return markdown;
+        return componentModel;
     }
 
-    @Tool(description = "Fetches and converts the full documentation for a specific Apache Camel component from the official documentation website to Markdown format. Use this when you need comprehensive documentation including examples, configuration details, and usage instructions.")
+    @Tool(description = "Fetches and converts the documentation for a specific Apache Camel component from the official documentation website to Markdown format. Use this when you need comprehensive documentation including examples, configuration details, and usage instructions. Large pages can be retrieved section by section: ask for the table of contents first, then fetch only the sections you need.")
     public ToolResponse getComponentDocumentation(
-            @ToolArg(description = "The scheme name of the component. For example: 'file', 'kafka', or 'jms'.") String componentName) {
-        io.quarkus.logging.Log.infof("Tool invoked: getComponentDocumentation(componentName=%s)", componentName);
+            @ToolArg(description = "The scheme name of the component. For example: 'file', 'kafka', or 'jms'.") String componentName,
+            @ToolArg(description = "Optional list of section titles or anchors to return (case-insensitive), for example 'Examples' or 'Consumer configuration'. Leave empty to get the whole page.", required = false) List<String> sections,
+            @ToolArg(description = "Set to true to only return the table of contents (section level, title, anchor and size) instead of the Markdown.", required = false) Boolean tableOfContents,
+            @ToolArg(description = "Optional Camel version of the catalog to query (e.g., '4.4.0'). Defaults to the bundled catalog.", required = false) String version) {
+        io.quarkus.logging.Log.infof("Tool invoked: getComponentDocumentation(componentName=%s, sections=%s, tableOfContents=%s, version=%s)",
+                componentName, sections, tableOfContents, version);
         final ComponentModel componentModel;
         try {
-            componentModel = findComponent(componentName);
+            componentModel = findComponent(componentName, version);
         } catch (ComponentNotFoundException e) {
             return ToolResponse.error(e.getMessage());
         }
 
-        // Build the documentation URL using the same logic as getComponentURL
-        final String baseVersion = extractMajorMinorVersion(componentModel.getVersion());
-        String url = "https://camel.apache.org/components/" + baseVersion + ".x/" + componentModel.getName() + "-component.html";
-
         try {
-            // Fetch the HTML documentation
-            Document doc = Jsoup.connect(url).get();
-
-            // Extract the content - prefer <article> tag if present, otherwise use full HTML
-            String htmlContent;
-            Element articleElement = doc.selectFirst("article");
-            if (articleElement != null) {
-                // Replace content of tables tool references to improve performances
-                replaceH2SectionContent(articleElement, "_configuring_options", "");
-                replaceH2SectionContent(articleElement, "_component_options",
-                    "The component options can be retrieved via the tool getInformationAboutOptions");
-                replaceH2SectionContent(articleElement, "_endpoint_options",
-                    "The endpoint options can be retrieved via the tool getInformationAboutOptions");
-
-                htmlContent = articleElement.html();
-            } else {
-                htmlContent = doc.html();
-            }
-
-            // Convert HTML to Markdown
-            FlexmarkHtmlConverter converter = FlexmarkHtmlConverter.builder().build();
-            String markdown = converter.convert(htmlContent);
+            ComponentDocumentationService.ComponentDocumentation documentation =
+                    documentationService.documentation(componentModel);
+            MarkdownSections content = documentation.content();
 
-            // Clean up the markdown
-            markdown = cleanupMarkdown(markdown);
-
-            // Return the markdown documentation
             JsonObject reply = new JsonObject();
-            reply.put("componentName", componentModel.getName());
-            reply.put("documentationUrl", url);
-            reply.put("markdown", markdown);
+            putResolutionNote(reply, componentName, componentModel);
+            reply.put("componentName", documentation.componentName());
+            reply.put("documentationUrl", documentation.url());
+
+            if (Boolean.TRUE.equals(tableOfContents)) {
+                reply.put("sections", tableOfContents(content.sections()));
+            } else if (sections != null && !sections.isEmpty()) {
+                List<MarkdownSections.Section> selected = content.select(sections);
+                if (selected.isEmpty()) {
+                    return ToolResponse.error("None of the sections " + sections + " exist in the documentation of "
+                            + documentation.componentName() + ". Use tableOfContents=true to list the available sections.");
+                }
+                StringBuilder markdown = new StringBuilder();
+                for (MarkdownSections.Section section : selected) {
+                    if (markdown.length() > 0) {
+                        markdown.append("\n\n");
+                    }
+                    markdown.append(content.content(section));
+                }
+                reply.put("markdown", markdown.toString());
+            } else {
+                // Return the markdown documentation
+                reply.put("markdown", documentation.markdown());
+            }
 
             return ToolResponse.success(reply.toString());
 
         } catch (IOException e) {
-            return ToolResponse.error("Failed to fetch documentation from " + url + ": " + e.getMessage());
+            return ToolResponse.error(e.getMessage());
         } catch (Exception e) {
             return ToolResponse.error("Failed to convert documentation to markdown: " + e.getMessage());
         }
     }
 
-    /**
-     * Replaces the content of a section (parent div of an h2 with specific id) with a message
-     */
-    private void replaceH2SectionContent(Element root, String h2Id, String replacementText) {
-        Element h2 = root.selectFirst("h2#" + h2Id);
-        if (h2 != null && h2.parent() != null) {
-            Element parentDiv = h2.parent();
-            // Clear all content except the h2
-            parentDiv.children().forEach(child -> {
-                if (!child.equals(h2)) {
-                    child.remove();
-                }
-            });
-            // Add a paragraph with the replacement text
-            parentDiv.appendElement("p").text(replacementText);
+    private JsonArray tableOfContents(List<MarkdownSections.Section> sections) {
+        JsonArray toc = new JsonArray();
+        for (MarkdownSections.Section section : sections) {
+            JsonObject entry = new JsonObject();
+            entry.put("level", section.level());
+            entry.put("title", section.title());
+            entry.put("anchor", section.anchor());
+            entry.put("size", section.end() - section.start());
+            toc.add(entry);
         }
+        return toc;
     }
 }
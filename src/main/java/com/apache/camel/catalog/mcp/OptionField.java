@@ -0,0 +1,75 @@
+package com.apache.camel.catalog.mcp;
+
+import org.apache.camel.tooling.model.BaseOptionModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The metadata of a component or endpoint option that the option tools can return, by the name clients select it with.
+ */
+public enum OptionField {
+
+    NAME("name", BaseOptionModel::getName),
+    KIND("kind", BaseOptionModel::getKind),
+    DISPLAY_NAME("displayName", BaseOptionModel::getDisplayName),
+    GROUP("group", BaseOptionModel::getGroup),
+    LABEL("label", BaseOptionModel::getLabel),
+    REQUIRED("required", BaseOptionModel::isRequired),
+    TYPE("type", BaseOptionModel::getType),
+    JAVA_TYPE("javaType", BaseOptionModel::getJavaType),
+    // a single cell, so that the options stay a table
+    ENUM("enum", option -> option.getEnums() != null ? String.join("|", option.getEnums()) : null),
+    DEFAULT_VALUE("defaultValue", BaseOptionModel::getDefaultValue),
+    DESCRIPTION("description", BaseOptionModel::getDescription),
+    PREFIX("prefix", BaseOptionModel::getPrefix),
+    MULTI_VALUE("multiValue", BaseOptionModel::isMultiValue),
+    SECRET("secret", BaseOptionModel::isSecret),
+    AUTOWIRED("autowired", BaseOptionModel::isAutowired),
+    DEPRECATED("deprecated", BaseOptionModel::isDeprecated),
+    DEPRECATION_NOTE("deprecationNote", BaseOptionModel::getDeprecationNote),
+    SUPPORT_FILE_REFERENCE("supportFileReference", BaseOptionModel::isSupportFileReference),
+    LARGE_INPUT("largeInput", BaseOptionModel::isLargeInput);
+
+    private final String fieldName;
+    private final Function<BaseOptionModel, Object> getter;
+
+    OptionField(String fieldName, Function<BaseOptionModel, Object> getter) {
+        this.fieldName = fieldName;
+        this.getter = getter;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public Object value(BaseOptionModel option) {
+        return getter.apply(option);
+    }
+
+    /**
+     * Resolves field names, case-insensitively, in the order given.
+     *
+     * @throws IllegalArgumentException if a name is not a known field
+     */
+    public static List<OptionField> of(List<String> names) {
+        List<OptionField> fields = new ArrayList<>(names.size());
+        for (String name : names) {
+            OptionField field = Arrays.stream(values())
+                    .filter(candidate -> candidate.fieldName.equalsIgnoreCase(name.strip()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown option field '" + name + "'. Supported fields: "
+                            + String.join(", ", names(List.of(values())))));
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    public static List<String> names(List<OptionField> fields) {
+        return fields.stream().map(OptionField::fieldName).toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.apache.camel.catalog.mcp;
+
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of fully encoded tool responses.
+ * <p>
+ * Responses are keyed by tool, requested name and catalog version, since the encoded output for a given catalog
+ * never changes. Each entry keeps the final string and the size of its UTF-8 form, counted without encoding it, and
+ * the cache is bounded by the total UTF-8 size of the responses it holds.
+ */
+@Singleton
+public class ResponseCache {
+
+    public record Key(String tool, String name, String version) {
+    }
+
+    public record EncodedResponse(String text, int utf8Length) {
+
+        static EncodedResponse of(String text) {
+            return new EncodedResponse(text, ResponseCache.utf8Length(text));
+        }
+    }
+
+    private final long maxBytes;
+    private final Map<Key, EncodedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes;
+
+    public ResponseCache(@ConfigProperty(name = "catalog.response-cache.max-bytes", defaultValue = "33554432") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached response for the given key, encoding and caching it on a miss.
+     * The encoder runs outside the cache lock, concurrent misses for the same key may therefore both encode.
+     */
+    public EncodedResponse get(String tool, String name, String version, Supplier<String> encoder) {
+        Key key = new Key(tool, name, version);
+        synchronized (this) {
+            EncodedResponse cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        EncodedResponse encoded = EncodedResponse.of(encoder.get());
+        if (encoded.utf8Length() <= maxBytes) {
+            put(key, encoded);
+        }
+        return encoded;
+    }
+
+    private synchronized void put(Key key, EncodedResponse encoded) {
+        EncodedResponse previous = entries.put(key, encoded);
+        if (previous != null) {
+            currentBytes -= previous.utf8Length();
+        }
+        currentBytes += encoded.utf8Length();
+
+        Iterator<EncodedResponse> eldest = entries.values().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().utf8Length();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * The number of bytes of the UTF-8 form of {@code text}, where an unpaired surrogate takes one byte as
+     * {@link String#getBytes} replaces it with {@code ?}.
+     */
+    static int utf8Length(String text) {
+        int length = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    // 4 bytes for the pair of chars
+                    length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,150 @@
+package com.apache.camel.catalog.mcp;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Writes TOON documents made of top-level fields and tabular arrays directly to a buffer, without building an object
+ * tree to encode first.
+ * <p>
+ * Only the subset of TOON the tools emit is supported: primitive fields and arrays of uniform rows of primitive
+ * values, which TOON renders as a header naming the columns followed by one comma-separated line per row. Strings
+ * are quoted and escaped where TOON requires it, as {@code JToon} does.
+ */
+public final class ToonWriter {
+
+    private static final String INDENT = "  ";
+    private static final char DELIMITER = ',';
+    private static final Pattern NUMERIC = Pattern.compile("-?\\d+(?:\\.\\d+)?(?:[eE][+-]?\\d+)?|0\\d+");
+
+    private final StringBuilder out = new StringBuilder();
+    private boolean rowOpen;
+    private boolean firstCell;
+
+    /**
+     * Writes a {@code key: value} line.
+     */
+    public ToonWriter field(String key, Object value) {
+        endRow();
+        out.append(key).append(": ");
+        value(value);
+        out.append('\n');
+        return this;
+    }
+
+    /**
+     * Writes an inline array of primitive values, {@code key[2]: a,b}.
+     */
+    public ToonWriter array(String key, List<?> values) {
+        endRow();
+        out.append(key).append('[').append(values.size()).append("]:");
+        for (int i = 0; i < values.size(); i++) {
+            out.append(i == 0 ? ' ' : DELIMITER);
+            value(values.get(i));
+        }
+        out.append('\n');
+        return this;
+    }
+
+    /**
+     * Writes the header of a tabular array of {@code size} rows, to be followed by exactly that many rows.
+     */
+    public ToonWriter table(String key, List<String> columns, int size) {
+        endRow();
+        out.append(key).append('[').append(size).append(']');
+        if (size > 0) {
+            out.append('{').append(String.join(String.valueOf(DELIMITER), columns)).append('}');
+        }
+        out.append(":\n");
+        return this;
+    }
+
+    /**
+     * Starts a row of the current table, whose cells are then written with {@link #cell(Object)}.
+     */
+    public ToonWriter row() {
+        endRow();
+        out.append(INDENT);
+        rowOpen = true;
+        firstCell = true;
+        return this;
+    }
+
+    public ToonWriter cell(Object value) {
+        if (!firstCell) {
+            out.append(DELIMITER);
+        }
+        firstCell = false;
+        value(value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        endRow();
+        // no trailing newline, as JToon
+        return out.length() > 0 ? out.substring(0, out.length() - 1) : "";
+    }
+
+    private void endRow() {
+        if (rowOpen) {
+            out.append('\n');
+            rowOpen = false;
+        }
+    }
+
+    private void value(Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof Boolean) {
+            out.append(value);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            out.append(Double.isFinite(number) ? BigDecimal.valueOf(number).stripTrailingZeros().toPlainString() : "null");
+        } else if (value instanceof Number) {
+            out.append(value);
+        } else {
+            string(value.toString());
+        }
+    }
+
+    private void string(String value) {
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        if (value.isEmpty()
+                || Character.isWhitespace(value.charAt(0))
+                || Character.isWhitespace(value.charAt(value.length() - 1))
+                || value.equals("true") || value.equals("false") || value.equals("null")
+                || value.startsWith("-")
+                || NUMERIC.matcher(value).matches()) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == DELIMITER || c == ':' || c == '"' || c == '\\' || c == '[' || c == ']' || c == '{' || c == '}'
+                    || c < ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,26 +1,38 @@
 package com.apache.camel.catalog.mcp;
 
+import com.apache.camel.catalog.mcp.docs.UpgradeGuideIndex;
+import com.apache.camel.catalog.mcp.index.CatalogDiffer;
+import com.apache.camel.catalog.mcp.versions.ParentPomStore;
 import com.felipestanzani.jtoon.JToon;
 import io.quarkiverse.mcp.server.Tool;
 import io.quarkiverse.mcp.server.ToolArg;
 import io.quarkiverse.mcp.server.ToolResponse;
 import io.vertx.core.json.JsonObject;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.Arrays;
 import java.util.List;
 
 @Singleton
 public class UpgradeTools {
 
+    @Inject
+    private CatalogDiffer catalogDiffer;
+
+    @Inject
+    private ParentPomStore parentPomStore;
+
+    @Inject
+    private UpgradeGuideIndex upgradeGuideIndex;
+
+    public UpgradeTools(CatalogDiffer catalogDiffer, ParentPomStore parentPomStore, UpgradeGuideIndex upgradeGuideIndex) {
+        this.catalogDiffer = catalogDiffer;
+        this.parentPomStore = parentPomStore;
+        this.upgradeGuideIndex = upgradeGuideIndex;
+    }
+
     @Tool(description = "Camel Upgrade guide documentation for a major Apache Camel version. Use this when you need detailed information about upgrading to or from a specific Camel version.")
     public ToolResponse getCamelUpgradeGuideDocumentation(
             @ToolArg(description = "The major version of the upgrade guide to fetch. For example: '3' or '4'. Use null or empty string to retrieve all the upgrade guides.", required = false) String version) {
@@ -150,14 +162,50 @@ public class UpgradeTools {
     }
 
     private String loadGuideFromResource(String fileName) {
+        return upgradeGuideIndex.guide(fileName);
+    }
+
+    @Tool(description = "Returns only the parts of the Camel or Camel Quarkus upgrade guides that apply to an upgrade between two versions, for example the notes of every minor release from 4.4 to 4.8, optionally restricted to the sections mentioning some keywords (e.g., a component or an API). Prefer this over the full upgrade guide documentation when the versions are known.")
+    public ToolResponse queryUpgradeGuide(
+            @ToolArg(description = "The version to upgrade from (e.g., '4.4.0' or '4.4').") String fromVersion,
+            @ToolArg(description = "The version to upgrade to (e.g., '4.8.0'). Defaults to the latest version covered by the guides.", required = false) String toVersion,
+            @ToolArg(description = "Optional list of keywords; only the sections mentioning one of them are returned (case-insensitive, e.g., ['kafka', 'jmx']).", required = false) List<String> keywords,
+            @ToolArg(description = "The product of the guides: 'camel' (default) or 'camel-quarkus'.", required = false) String product) {
+        io.quarkus.logging.Log.infof("Tool invoked: queryUpgradeGuide(fromVersion=%s, toVersion=%s, keywords=%s, product=%s)",
+                fromVersion, toVersion, keywords, product);
+
         try {
-            var inputStream = getClass().getClassLoader().getResourceAsStream("guides/" + fileName);
-            if (inputStream == null) {
-                return null;
+            List<UpgradeGuideIndex.Section> sections = upgradeGuideIndex.query(
+                    product == null || product.isBlank() ? UpgradeGuideIndex.CAMEL : product.trim(),
+                    fromVersion, toVersion, keywords);
+            if (sections.isEmpty()) {
+                return ToolResponse.success("No upgrade guide section applies to this upgrade"
+                        + (keywords == null || keywords.isEmpty() ? "." : " and mentions " + String.join(", ", keywords) + "."));
             }
-            return new String(inputStream.readAllBytes());
-        } catch (IOException e) {
-            return null;
+            return ToolResponse.success(JToon.encode(sections));
+        } catch (IllegalArgumentException e) {
+            return ToolResponse.error(e.getMessage());
+        }
+    }
+
+    @Tool(description = "Computes the structural differences between the catalogs of two Apache Camel versions: added, removed and deprecated components, data formats, languages and EIPs, renamed EIPs, and for the entries present in both versions the added, removed and deprecated options and the changed default values. Use this to find out what changed for an upgrade instead of comparing components one by one. Both versions must be available to the server, see findCatalogVersions.")
+    public ToolResponse getCatalogDiff(
+            @ToolArg(description = "The Camel version to upgrade from (e.g., '4.4.0').") String fromVersion,
+            @ToolArg(description = "The Camel version to upgrade to (e.g., '4.14.0'). Defaults to the bundled catalog version.", required = false) String toVersion,
+            @ToolArg(description = "Optional list of kinds to compare: 'component', 'dataformat', 'language', 'eip'. Leave empty to compare all of them.", required = false) List<String> kinds,
+            @ToolArg(description = "Optional list of names to restrict the diff to, for example the components used by a project (e.g., ['kafka', 'file']).", required = false) List<String> names) {
+        io.quarkus.logging.Log.infof("Tool invoked: getCatalogDiff(fromVersion=%s, toVersion=%s, kinds=%s, names=%s)",
+                fromVersion, toVersion, kinds, names);
+
+        if (fromVersion == null || fromVersion.isBlank()) {
+            return ToolResponse.error("The version to upgrade from is required.");
+        }
+        try {
+            return ToolResponse.success(JToon.encode(catalogDiffer.diff(fromVersion, toVersion, kinds, names)));
+        } catch (IllegalArgumentException e) {
+            return ToolResponse.error(e.getMessage());
+        } catch (Exception e) {
+            return ToolResponse.error("Failed to compute catalog diff: " + e.getMessage());
         }
     }
 
@@ -167,61 +215,16 @@ public class UpgradeTools {
         io.quarkus.logging.Log.infof("Tool invoked: getCompatibleVersions(release=%s)", release);
 
         if (release == null || release.isEmpty()) {
-            release = "main";
+            release = ParentPomStore.MAIN;
         }
         try {
-            // Build the GitHub raw URL for the parent pom.xml
-            String url;
-            if ("main".equalsIgnoreCase(release)) {
-                url = "https://raw.githubusercontent.com/apache/camel/main/parent/pom.xml";
-            } else {
-                url = "https://raw.githubusercontent.com/apache/camel/refs/tags/camel-" + release + "/parent/pom.xml";
-            }
-
-            // Fetch the pom.xml content
-            HttpClient client = HttpClient.newHttpClient();
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() != 200) {
-                return ToolResponse.error("Failed to fetch parent pom.xml from " + url + ". Status code: " + response.statusCode());
-            }
-
-            String xmlContent = response.body();
-
-            // Parse the XML
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            org.w3c.dom.Document doc = builder.parse(new ByteArrayInputStream(xmlContent.getBytes()));
-
-            // Extract properties
             JsonObject properties = new JsonObject();
-            org.w3c.dom.NodeList propertiesNodes = doc.getElementsByTagName("properties");
-
-            if (propertiesNodes.getLength() > 0) {
-                org.w3c.dom.Node propertiesNode = propertiesNodes.item(0);
-                org.w3c.dom.NodeList propertyList = propertiesNode.getChildNodes();
-
-                for (int i = 0; i < propertyList.getLength(); i++) {
-                    org.w3c.dom.Node node = propertyList.item(i);
-                    if (node.getNodeType() == org.w3c.dom.Node.ELEMENT_NODE) {
-                        String propertyName = node.getNodeName();
-                        String propertyValue = node.getTextContent();
-                        properties.put(propertyName, propertyValue);
-                    }
-                }
-            }
-
+            parentPomStore.properties(release).forEach(properties::put);
             return ToolResponse.success(JToon.encodeJson(properties.toString()));
+        } catch (IllegalArgumentException e) {
+            return ToolResponse.error(e.getMessage());
         } catch (IOException e) {
             return ToolResponse.error("Failed to fetch parent pom.xml: " + e.getMessage());
-        } catch (Exception e) {
-            return ToolResponse.error("Failed to parse parent pom.xml: " + e.getMessage());
         }
     }
 }
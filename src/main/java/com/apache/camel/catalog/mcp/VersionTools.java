@@ -1,20 +1,17 @@
 package com.apache.camel.catalog.mcp;
 
+import com.apache.camel.catalog.mcp.versions.CompatibilityMatrix;
+import com.apache.camel.catalog.mcp.versions.ReleaseIndex;
 import com.felipestanzani.jtoon.JToon;
 import io.quarkiverse.mcp.server.McpLog;
 import io.quarkiverse.mcp.server.Tool;
 import io.quarkiverse.mcp.server.ToolArg;
-import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.apache.camel.catalog.CamelCatalog;
-import org.apache.camel.catalog.DefaultCamelCatalog;
-import org.apache.camel.tooling.model.ReleaseModel;
 
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 @Singleton
 public class VersionTools {
@@ -22,8 +19,36 @@ public class VersionTools {
     @Inject
     private CamelCatalog camelCatalog;
 
-    public VersionTools(CamelCatalog camelCatalog) {
+    @Inject
+    private CompatibilityMatrix compatibilityMatrix;
+
+    private ReleaseIndex camelReleaseIndex;
+
+    private ReleaseIndex camelQuarkusReleaseIndex;
+
+    public VersionTools(CamelCatalog camelCatalog, CompatibilityMatrix compatibilityMatrix) {
         this.camelCatalog = camelCatalog;
+        this.compatibilityMatrix = compatibilityMatrix;
+    }
+
+    /**
+     * The Camel releases of the catalog, sorted once on first use.
+     */
+    private synchronized ReleaseIndex camelReleaseIndex() {
+        if (camelReleaseIndex == null) {
+            camelReleaseIndex = ReleaseIndex.of(camelCatalog.camelReleases());
+        }
+        return camelReleaseIndex;
+    }
+
+    /**
+     * The Camel Quarkus releases of the catalog, sorted once on first use.
+     */
+    private synchronized ReleaseIndex camelQuarkusReleaseIndex() {
+        if (camelQuarkusReleaseIndex == null) {
+            camelQuarkusReleaseIndex = ReleaseIndex.of(camelCatalog.camelQuarkusReleases());
+        }
+        return camelQuarkusReleaseIndex;
     }
 
     /**
@@ -31,43 +56,38 @@ public class VersionTools {
      *
      * @param limit Maximum number of releases to return (optional, defaults to all)
      * @param offset Number of releases to skip from the beginning (optional, defaults to 0)
+     * @param major Only the releases of this major version (optional)
+     * @param fromDate Only the releases published on or after this date (optional)
+     * @param toDate Only the releases published on or before this date (optional)
      * @param log MCP logging instance for tracking tool invocations
      * @return List of ReleaseModel objects containing version information and metadata, sorted by version (latest first)
      */
     @Tool(name = "camelQuarkusReleases",
-            description = "Retrieves a list of Apache Camel Quarkus releases ordered by version (latest first), including version numbers, release dates, and compatibility information. Supports pagination via limit and offset parameters. Use this to discover available Camel Quarkus versions for migration planning or version compatibility checks.")
+            description = "Retrieves a list of Apache Camel Quarkus releases ordered by version (latest first), including version numbers, release dates, and compatibility information. Supports pagination via limit and offset parameters, and filtering by major version and release date. Use this to discover available Camel Quarkus versions for migration planning or version compatibility checks.")
     public String camelQuarkusReleases(
             @ToolArg(description = "Maximum number of releases to return (optional, defaults to all releases)")
             Integer limit,
             @ToolArg(description = "Number of releases to skip from the beginning (optional, defaults to 0)")
             Integer offset,
+            @ToolArg(description = "Only return the releases of this major version, e.g. 3 (optional)", required = false)
+            Integer major,
+            @ToolArg(description = "Only return the releases published on or after this date, as yyyy-MM-dd (optional)", required = false)
+            String fromDate,
+            @ToolArg(description = "Only return the releases published on or before this date, as yyyy-MM-dd (optional)", required = false)
+            String toDate,
             McpLog log) {
-        log.info("Tool invoked: camelQuarkusReleases(limit=%s, offset=%s)", limit, offset);
+        log.info("Tool invoked: camelQuarkusReleases(limit=%s, offset=%s, major=%s, fromDate=%s, toDate=%s)",
+                limit, offset, major, fromDate, toDate);
 
         int actualOffset = offset != null ? Math.max(0, offset) : 0;
+        validateDate(fromDate);
+        validateDate(toDate);
         try {
-            List<ReleaseModel> releases = camelCatalog.camelQuarkusReleases();
-
-            if (releases == null) {
-                releases = Collections.emptyList();
-            }
-
-            int totalCount = releases.size();
-
-            // Sort by version (latest first) and apply offset and limit using skip and limit
-            var stream = releases.stream()
-                    .sorted(VERSION_COMPARATOR)
-                    .skip(actualOffset);
-
-            if (limit != null && limit > 0) {
-                stream = stream.limit(limit);
-            }
-
-            List<ReleaseModel> result = stream.collect(Collectors.toList());
+            ReleaseIndex.Page page = camelQuarkusReleaseIndex().query(false, fromDate, toDate, major, actualOffset, limit);
 
             log.debug("Successfully retrieved %s of %s Camel Quarkus release(s) (offset: %s, limit: %s)",
-                    result.size(), totalCount, actualOffset, limit != null ? limit : "all");
-            return JToon.encode(result);
+                    page.releases().size(), page.total(), actualOffset, limit != null ? limit : "all");
+            return JToon.encode(page.releases());
         } catch (Exception e) {
             log.error("Error retrieving Camel Quarkus releases: %s", e.getMessage(), e);
             throw new RuntimeException("Failed to retrieve Camel Quarkus releases", e);
@@ -79,44 +99,43 @@ public class VersionTools {
      *
      * @param limit Maximum number of releases to return (optional, defaults to all)
      * @param offset Number of releases to skip from the beginning (optional, defaults to 0)
+     * @param lts Only the LTS releases (optional, defaults to false)
+     * @param major Only the releases of this major version (optional)
+     * @param fromDate Only the releases published on or after this date (optional)
+     * @param toDate Only the releases published on or before this date (optional)
      * @param log MCP logging instance for tracking tool invocations
      * @return List of ReleaseModel objects containing version information and metadata, sorted by version (latest first)
      */
     @Tool(name = "camelReleases",
-            description = "Retrieves a list of Apache Camel releases ordered by version (latest first), including version numbers, release dates, and LTS (Long Term Support) information. Supports pagination via limit and offset parameters. Helpful for understanding the Camel version history and planning upgrades.")
+            description = "Retrieves a list of Apache Camel releases ordered by version (latest first), including version numbers, release dates, and LTS (Long Term Support) information. Supports pagination via limit and offset parameters, and filtering on LTS releases, major version and release date. Helpful for understanding the Camel version history and planning upgrades.")
     public String camelReleases(
             @ToolArg(description = "Maximum number of releases to return (optional, defaults to all releases)")
             Integer limit,
             @ToolArg(description = "Number of releases to skip from the beginning (optional, defaults to 0)")
             Integer offset,
+            @ToolArg(description = "Only return the LTS (Long Term Support) releases (optional, defaults to false)", required = false)
+            Boolean lts,
+            @ToolArg(description = "Only return the releases of this major version, e.g. 4 (optional)", required = false)
+            Integer major,
+            @ToolArg(description = "Only return the releases published on or after this date, as yyyy-MM-dd (optional)", required = false)
+            String fromDate,
+            @ToolArg(description = "Only return the releases published on or before this date, as yyyy-MM-dd (optional)", required = false)
+            String toDate,
             McpLog log) {
-        log.info("Tool invoked: camelReleases(limit=%s, offset=%s)", limit, offset);
+        log.info("Tool invoked: camelReleases(limit=%s, offset=%s, lts=%s, major=%s, fromDate=%s, toDate=%s)",
+                limit, offset, lts, major, fromDate, toDate);
 
         int actualOffset = offset != null ? Math.max(0, offset) : 0;
+        validateDate(fromDate);
+        validateDate(toDate);
 
         try {
-            List<ReleaseModel> releases = camelCatalog.camelReleases();
-
-            if (releases == null) {
-                releases = Collections.emptyList();
-            }
-
-            int totalCount = releases.size();
-
-            // Sort by version (latest first) and apply offset and limit using skip and limit
-            var stream = releases.stream()
-                    .sorted(VERSION_COMPARATOR)
-                    .skip(actualOffset);
-
-            if (limit != null && limit > 0) {
-                stream = stream.limit(limit);
-            }
-
-            List<ReleaseModel> result = stream.collect(Collectors.toList());
+            ReleaseIndex.Page page = camelReleaseIndex().query(Boolean.TRUE.equals(lts), fromDate, toDate, major,
+                    actualOffset, limit);
 
             log.debug("Successfully retrieved %s of %s Camel release(s) (offset: %s, limit: %s)",
-                    result.size(), totalCount, actualOffset, limit != null ? limit : "all");
-            return JToon.encode(result);
+                    page.releases().size(), page.total(), actualOffset, limit != null ? limit : "all");
+            return JToon.encode(page.releases());
         } catch (Exception e) {
             log.error("Error retrieving Camel releases: %s", e.getMessage(), e);
             throw new RuntimeException("Failed to retrieve Camel releases", e);
@@ -124,46 +143,41 @@ public class VersionTools {
     }
 
     /**
-     * Comparator for semantic versioning that orders versions from latest to oldest.
-     * Handles versions like "4.9.0", "4.10.0", "3.21.0", etc.
+     * Looks up which Camel, Camel Quarkus and Quarkus versions go together.
+     *
+     * @param camelVersion Camel version, minor line or major line (optional)
+     * @param camelQuarkusVersion Camel Quarkus version, minor line or major line (optional)
+     * @param quarkusVersion Quarkus version, minor line or major line (optional)
+     * @param log MCP logging instance for tracking tool invocations
+     * @return The Camel Quarkus releases matching every given version, with the Camel and Quarkus versions they are built on
      */
-    private static final Comparator<ReleaseModel> VERSION_COMPARATOR = (r1, r2) -> {
-        String v1 = r1.getVersion();
-        String v2 = r2.getVersion();
-
-        if (v1 == null && v2 == null) return 0;
-        if (v1 == null) return 1;
-        if (v2 == null) return -1;
-
-        String[] parts1 = v1.split("\\.");
-        String[] parts2 = v2.split("\\.");
-
-        int length = Math.max(parts1.length, parts2.length);
-        for (int i = 0; i < length; i++) {
-            int num1 = i < parts1.length ? parseVersionPart(parts1[i]) : 0;
-            int num2 = i < parts2.length ? parseVersionPart(parts2[i]) : 0;
-
-            if (num1 != num2) {
-                // Reverse order for latest first
-                return Integer.compare(num2, num1);
-            }
-        }
-        return 0;
-    };
+    @Tool(name = "getReleaseCompatibility",
+            description = "Looks up which Apache Camel, Camel Quarkus and Quarkus versions are compatible, from the Camel and Quarkus versions every Camel Quarkus release is built on. Give any combination of versions, as a full version (4.14.0), a minor line (4.14) or a major line (4), e.g. only quarkusVersion=3.27 to find the Camel and Camel Quarkus versions for Quarkus 3.27. Returns the matching Camel Quarkus releases (latest first) with their Camel and Quarkus versions, release dates and LTS status, the Camel Quarkus releases whose versions are still being fetched, and those whose Camel version could not be read from their pom.")
+    public String getReleaseCompatibility(
+            @ToolArg(description = "Camel version, minor line or major line, e.g. 4.14.0, 4.14 or 4 (optional)", required = false)
+            String camelVersion,
+            @ToolArg(description = "Camel Quarkus version, minor line or major line, e.g. 3.27.0, 3.27 or 3 (optional)", required = false)
+            String camelQuarkusVersion,
+            @ToolArg(description = "Quarkus version, minor line or major line, e.g. 3.27.0, 3.27 or 3 (optional)", required = false)
+            String quarkusVersion,
+            McpLog log) {
+        log.info("Tool invoked: getReleaseCompatibility(camelVersion=%s, camelQuarkusVersion=%s, quarkusVersion=%s)",
+                camelVersion, camelQuarkusVersion, quarkusVersion);
+
+        CompatibilityMatrix.Lookup lookup = compatibilityMatrix.lookup(camelVersion, camelQuarkusVersion, quarkusVersion);
+        log.debug("Found %s compatible release(s), %s Camel Quarkus release(s) pending, %s unresolved",
+                lookup.rows().size(), lookup.pendingCamelQuarkusVersions().size(),
+                lookup.unresolvedCamelQuarkusVersions().size());
+        return JToon.encode(lookup);
+    }
 
-    /**
-     * Parses a version part, extracting numeric portion and ignoring qualifiers like "-SNAPSHOT"
-     */
-    private static int parseVersionPart(String part) {
-        try {
-            // Handle parts like "0-SNAPSHOT" or "1-RC1"
-            int dashIndex = part.indexOf('-');
-            if (dashIndex > 0) {
-                part = part.substring(0, dashIndex);
+    private static void validateDate(String date) {
+        if (date != null) {
+            try {
+                LocalDate.parse(date);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date '" + date + "', expected yyyy-MM-dd");
             }
-            return Integer.parseInt(part);
-        } catch (NumberFormatException e) {
-            return 0;
         }
     }
 
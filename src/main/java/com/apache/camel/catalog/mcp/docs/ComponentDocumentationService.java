@@ -0,0 +1,151 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import io.quarkus.logging.Log;
+import jakarta.inject.Singleton;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resolves the Markdown documentation of a component.
+ * <p>
+ * Pages for the documentation version covered by the packaged {@link DocumentationBundle} are served from the bundle
+ * without any network access. Other versions fall back to the website: converted pages are served from the
+ * {@link DocumentationCache} while they are younger than the configured TTL.
+ * Older entries are revalidated with {@code If-None-Match} / {@code If-Modified-Since} and only downloaded and
+ * converted again when the website reports a change; if the website cannot be reached, the stale entry is served.
+ * <p>
+ * Recently served pages are kept in memory together with their {@link MarkdownSections} index, so repeated and
+ * section-level requests neither re-read nor re-split the page.
+ */
+@Singleton
+public class ComponentDocumentationService {
+
+    public record ComponentDocumentation(String componentName, String url, MarkdownSections content) {
+
+        public String markdown() {
+            return content.markdown();
+        }
+    }
+
+    private record Indexed(ComponentDocumentation documentation, Instant validUntil) {
+    }
+
+    private final DocumentationCache cache;
+    private final DocumentationBundle bundle;
+    private final String baseUrl;
+    private final Duration ttl;
+    private final Map<String, Indexed> indexed;
+
+    public ComponentDocumentationService(DocumentationCache cache,
+                                         @ConfigProperty(name = "documentation.bundle.enabled", defaultValue = "true") boolean bundleEnabled,
+                                         @ConfigProperty(name = "documentation.base-url", defaultValue = "https://camel.apache.org/components/") String baseUrl,
+                                         @ConfigProperty(name = "documentation.cache.ttl", defaultValue = "PT24H") Duration ttl,
+                                         @ConfigProperty(name = "documentation.index.max-entries", defaultValue = "128") int maxIndexed) {
+        this.cache = cache;
+        this.bundle = bundleEnabled ? loadBundle() : null;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.ttl = ttl;
+        this.indexed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Indexed> eldest) {
+                return size() > maxIndexed;
+            }
+        };
+    }
+
+    private static DocumentationBundle loadBundle() {
+        try {
+            DocumentationBundle bundle = DocumentationBundle.load(Thread.currentThread().getContextClassLoader());
+            if (bundle != null) {
+                Log.infof("Loaded offline documentation bundle for Camel %s (%d components)", bundle.version(), bundle.size());
+            }
+            return bundle;
+        } catch (IOException | RuntimeException e) {
+            Log.warnf("Failed to load offline documentation bundle: %s", e.getMessage());
+            return null;
+        }
+    }
+
+    public ComponentDocumentation documentation(ComponentModel componentModel) throws IOException {
+        final String baseVersion = extractMajorMinorVersion(componentModel.getVersion());
+        final String name = componentModel.getName();
+        final String url = baseUrl + baseVersion + ".x/" + name + "-component.html";
+        final String key = baseVersion + "/" + name;
+
+        synchronized (indexed) {
+            Indexed hit = indexed.get(key);
+            if (hit != null && hit.validUntil().isAfter(Instant.now())) {
+                return hit.documentation();
+            }
+        }
+
+        if (bundle != null && bundle.version().equals(baseVersion) && bundle.contains(name)) {
+            return index(key, name, bundle.url(name), bundle.markdown(name), Instant.MAX);
+        }
+
+        DocumentationCache.Entry cached = cache.read(baseVersion, name);
+        if (cached != null && cached.isFresh(ttl)) {
+            return index(key, name, cached.url(), cached.markdown(), cached.fetchedAt().plus(ttl));
+        }
+
+        try {
+            Connection connection = Jsoup.connect(url).ignoreHttpErrors(true);
+            if (cached != null && cached.etag() != null) {
+                connection.header("If-None-Match", cached.etag());
+            }
+            if (cached != null && cached.lastModified() != null) {
+                connection.header("If-Modified-Since", cached.lastModified());
+            }
+            Connection.Response response = connection.execute();
+
+            if (response.statusCode() == 304 && cached != null) {
+                Log.debugf("Documentation for %s %s not modified", name, baseVersion);
+                cached = cache.touch(baseVersion, name, cached);
+                return index(key, name, cached.url(), cached.markdown(), cached.fetchedAt().plus(ttl));
+            }
+            if (response.statusCode() != 200) {
+                throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), url);
+            }
+
+            String markdown = MarkdownConverter.convert(response.parse());
+            DocumentationCache.Entry fetched = cache.write(baseVersion, name, new DocumentationCache.Entry(
+                    url, markdown, response.header("ETag"), response.header("Last-Modified"), Instant.now()));
+            return index(key, name, url, markdown, fetched.fetchedAt().plus(ttl));
+        } catch (IOException e) {
+            if (cached == null) {
+                throw new IOException("Failed to fetch documentation from " + url + ": " + e.getMessage(), e);
+            }
+            Log.warnf("Failed to revalidate documentation for %s %s, serving cached copy: %s", name, baseVersion, e.getMessage());
+            return new ComponentDocumentation(name, cached.url(), MarkdownSections.parse(cached.markdown()));
+        }
+    }
+
+    private ComponentDocumentation index(String key, String name, String url, String markdown, Instant validUntil) {
+        ComponentDocumentation documentation = new ComponentDocumentation(name, url, MarkdownSections.parse(markdown));
+        synchronized (indexed) {
+            indexed.put(key, new Indexed(documentation, validUntil));
+        }
+        return documentation;
+    }
+
+    /**
+     * Extracts the major.minor version from a version string (e.g., "4.9.0" -> "4.9", "4.10.1" -> "4.10")
+     */
+    static String extractMajorMinorVersion(String version) {
+        String[] parts = version.split("\\.");
+        if (parts.length >= 2) {
+            return parts[0] + "." + parts[1];
+        }
+        // Fallback if version format is unexpected
+        return version;
+    }
+}
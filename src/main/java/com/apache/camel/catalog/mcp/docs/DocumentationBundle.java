@@ -0,0 +1,182 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import com.apache.camel.catalog.mcp.file.ResourceBuffers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Offline bundle of pre-rendered component documentation, produced at package time by
+ * {@link DocumentationBundleBuilder}.
+ * <p>
+ * Layout (big endian, strings as int length + UTF-8 bytes):
+ * <pre>
+ * int    magic, int format
+ * string documentation version (major.minor)
+ * int    entryCount, then per entry: string name, string url, int offset, int compressedLength, int length
+ * byte[] data (every entry deflated on its own, concatenated)
+ * </pre>
+ * Only the index is read when the bundle is opened; each entry is inflated on its own when requested.
+ */
+public final class DocumentationBundle {
+
+    public static final String RESOURCE = "docs/documentation.bundle";
+
+    static final int MAGIC = 0x43434442;
+    static final int FORMAT = 1;
+
+    /**
+     * A rendered documentation page.
+     */
+    public record Page(String url, String markdown) {
+    }
+
+    private record Entry(String url, int offset, int compressedLength, int length) {
+    }
+
+    private final String version;
+    private final Map<String, Entry> entries;
+    private final ByteBuffer data;
+
+    private DocumentationBundle(ByteBuffer buffer) {
+        ByteBuffer index = buffer.duplicate();
+        if (index.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a documentation bundle");
+        }
+        int format = index.getInt();
+        if (format != FORMAT) {
+            throw new IllegalStateException("Unsupported documentation bundle format " + format);
+        }
+
+        this.version = readString(index);
+        int entryCount = index.getInt();
+        this.entries = new HashMap<>(entryCount * 2);
+        for (int i = 0; i < entryCount; i++) {
+            String name = readString(index);
+            entries.put(name, new Entry(readString(index), index.getInt(), index.getInt(), index.getInt()));
+        }
+        this.data = index.slice();
+    }
+
+    /**
+     * Opens the bundle packaged on the classpath, or returns {@code null} if the build did not produce one.
+     */
+    public static DocumentationBundle load(ClassLoader classLoader) throws IOException {
+        ByteBuffer buffer = ResourceBuffers.open(classLoader, RESOURCE);
+        return buffer != null ? new DocumentationBundle(buffer) : null;
+    }
+
+    /**
+     * The documentation version (major.minor) the bundle was rendered for.
+     */
+    public String version() {
+        return version;
+    }
+
+    public boolean contains(String componentName) {
+        return entries.containsKey(componentName);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public String url(String componentName) {
+        Entry entry = entries.get(componentName);
+        return entry != null ? entry.url() : null;
+    }
+
+    /**
+     * Inflates the Markdown of a single component, or returns {@code null} if the bundle does not contain it.
+     */
+    public String markdown(String componentName) {
+        Entry entry = entries.get(componentName);
+        if (entry == null) {
+            return null;
+        }
+
+        byte[] compressed = new byte[entry.compressedLength()];
+        data.get(entry.offset(), compressed);
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] markdown = new byte[entry.length()];
+            int read = 0;
+            while (read < markdown.length && !inflater.finished()) {
+                int inflated = inflater.inflate(markdown, read, markdown.length - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    // a truncated entry would otherwise never finish
+                    throw new IllegalStateException("Corrupted documentation bundle entry " + componentName);
+                }
+                read += inflated;
+            }
+            return new String(markdown, 0, read, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted documentation bundle entry " + componentName, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Writes a bundle for the given documentation version, with one page per component name.
+     */
+    public static void write(String version, SortedMap<String, Page> pages, OutputStream out) throws IOException {
+        ByteArrayOutputStream blob = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(out);
+        index.writeInt(MAGIC);
+        index.writeInt(FORMAT);
+        writeString(index, version);
+        index.writeInt(pages.size());
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            byte[] chunk = new byte[8192];
+            for (Map.Entry<String, Page> page : pages.entrySet()) {
+                byte[] markdown = page.getValue().markdown().getBytes(StandardCharsets.UTF_8);
+                int offset = blob.size();
+
+                deflater.reset();
+                deflater.setInput(markdown);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    blob.write(chunk, 0, deflater.deflate(chunk));
+                }
+
+                writeString(index, page.getKey());
+                writeString(index, page.getValue().url());
+                index.writeInt(offset);
+                index.writeInt(blob.size() - offset);
+                index.writeInt(markdown.length);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        blob.writeTo(index);
+        index.flush();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
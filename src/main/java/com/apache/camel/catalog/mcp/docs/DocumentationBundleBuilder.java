@@ -0,0 +1,76 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import org.apache.camel.catalog.DefaultCamelCatalog;
+import org.jsoup.Jsoup;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Package-time entry point rendering the documentation of every component of the bundled catalog into a
+ * {@link DocumentationBundle}.
+ * <p>
+ * Invoked by the {@code offline-docs} Maven profile with the output directory and, optionally, the documentation
+ * base url as arguments. Components whose page cannot be fetched are reported and left out of the bundle, and the
+ * build fails without writing a bundle if the pages are not all fetched within an hour.
+ */
+public final class DocumentationBundleBuilder {
+
+    private static final int FETCH_THREADS = 8;
+    private static final long FETCH_TIMEOUT_MINUTES = 60;
+
+    private DocumentationBundleBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: DocumentationBundleBuilder <output directory> [base url]");
+        }
+        String baseUrl = args.length > 1 ? args[1] : "https://camel.apache.org/components/";
+        if (!baseUrl.endsWith("/")) {
+            baseUrl += "/";
+        }
+
+        DefaultCamelCatalog catalog = new DefaultCamelCatalog();
+        String version = ComponentDocumentationService.extractMajorMinorVersion(catalog.getCatalogVersion());
+        List<String> names = catalog.findComponentNames();
+
+        SortedMap<String, DocumentationBundle.Page> pages = new ConcurrentSkipListMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(FETCH_THREADS);
+        for (String name : names) {
+            String url = baseUrl + version + ".x/" + name + "-component.html";
+            executor.submit(() -> {
+                try {
+                    pages.put(name, new DocumentationBundle.Page(url, MarkdownConverter.convert(Jsoup.connect(url).get())));
+                } catch (Exception e) {
+                    System.out.printf("Skipping documentation of %s: %s%n", name, e.getMessage());
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(FETCH_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            // never write a bundle missing the pages still being fetched
+            executor.shutdownNow();
+            throw new IOException("Timed out after " + FETCH_TIMEOUT_MINUTES
+                    + " minutes fetching the component documentation, no bundle written");
+        }
+
+        Path target = Path.of(args[0]).resolve(DocumentationBundle.RESOURCE);
+        Files.createDirectories(target.getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            DocumentationBundle.write(version, pages, out);
+        }
+
+        System.out.printf("Wrote documentation bundle for Camel %s to %s (%d of %d components, %d bytes)%n",
+                version, target, pages.size(), names.size(), Files.size(target));
+    }
+}
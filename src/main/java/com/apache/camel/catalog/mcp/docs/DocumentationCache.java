@@ -0,0 +1,126 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import com.apache.camel.catalog.mcp.file.FSUtil;
+import io.quarkus.logging.Log;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+
+/**
+ * Disk-backed store of converted component documentation.
+ * <p>
+ * Each entry is kept under {@code <dir>/<major.minor>/} as the cleaned Markdown ({@code <component>.md}) plus its
+ * validators ({@code <component>.properties}: url, ETag, Last-Modified and the time it was last fetched or
+ * revalidated), so that stale entries can be revalidated with a conditional request instead of a full download.
+ */
+@Singleton
+public class DocumentationCache {
+
+    public record Entry(String url, String markdown, String etag, String lastModified, Instant fetchedAt) {
+
+        public boolean isFresh(Duration ttl) {
+            return fetchedAt.plus(ttl).isAfter(Instant.now());
+        }
+    }
+
+    private final Path directory;
+
+    public DocumentationCache(
+            @ConfigProperty(name = "documentation.cache.dir", defaultValue = "~/.camel-catalog-mcp/docs") String directory) {
+        this.directory = Path.of(FSUtil.expandHome(directory));
+    }
+
+    /**
+     * Returns the cached entry, or {@code null} if there is none or it cannot be read.
+     */
+    public Entry read(String version, String componentName) {
+        Path markdownFile = markdownFile(version, componentName);
+        Path metadataFile = metadataFile(version, componentName);
+        if (!Files.isRegularFile(markdownFile) || !Files.isRegularFile(metadataFile)) {
+            return null;
+        }
+
+        try (Reader reader = Files.newBufferedReader(metadataFile)) {
+            Properties metadata = new Properties();
+            metadata.load(reader);
+            return new Entry(
+                    metadata.getProperty("url"),
+                    Files.readString(markdownFile),
+                    metadata.getProperty("etag"),
+                    metadata.getProperty("lastModified"),
+                    Instant.parse(metadata.getProperty("fetchedAt")));
+        } catch (IOException | RuntimeException e) {
+            Log.warnf("Ignoring unreadable documentation cache entry %s: %s", markdownFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores a freshly fetched entry, replacing any previous one.
+     */
+    public Entry write(String version, String componentName, Entry entry) {
+        try {
+            Files.createDirectories(directory.resolve(version));
+            writeAtomically(markdownFile(version, componentName), entry.markdown());
+            writeMetadata(version, componentName, entry);
+        } catch (IOException e) {
+            Log.warnf("Failed to write documentation cache entry for %s %s: %s", componentName, version, e.getMessage());
+        }
+        return entry;
+    }
+
+    /**
+     * Marks an entry as revalidated now, keeping its content.
+     */
+    public Entry touch(String version, String componentName, Entry entry) {
+        Entry touched = new Entry(entry.url(), entry.markdown(), entry.etag(), entry.lastModified(), Instant.now());
+        try {
+            writeMetadata(version, componentName, touched);
+        } catch (IOException e) {
+            Log.warnf("Failed to update documentation cache entry for %s %s: %s", componentName, version, e.getMessage());
+        }
+        return touched;
+    }
+
+    private void writeMetadata(String version, String componentName, Entry entry) throws IOException {
+        Properties metadata = new Properties();
+        metadata.setProperty("url", entry.url());
+        metadata.setProperty("fetchedAt", entry.fetchedAt().toString());
+        if (entry.etag() != null) {
+            metadata.setProperty("etag", entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            metadata.setProperty("lastModified", entry.lastModified());
+        }
+
+        Path metadataFile = metadataFile(version, componentName);
+        Path tmp = Files.createTempFile(metadataFile.getParent(), componentName, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp)) {
+            metadata.store(writer, null);
+        }
+        Files.move(tmp, metadataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeAtomically(Path target, String content) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.writeString(tmp, content);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path markdownFile(String version, String componentName) {
+        return directory.resolve(version).resolve(componentName + ".md");
+    }
+
+    private Path metadataFile(String version, String componentName) {
+        return directory.resolve(version).resolve(componentName + ".properties");
+    }
+}
@@ -0,0 +1,82 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import com.vladsch.flexmark.html2md.converter.FlexmarkHtmlConverter;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+/**
+ * Converts a component page of the Camel website into the cleaned Markdown returned by the documentation tools.
+ */
+public final class MarkdownConverter {
+
+    private MarkdownConverter() {
+    }
+
+    public static String convert(Document doc) {
+        // Extract the content - prefer <article> tag if present, otherwise use full HTML
+        String htmlContent;
+        Element articleElement = doc.selectFirst("article");
+        if (articleElement != null) {
+            // Replace content of tables tool references to improve performances
+            replaceH2SectionContent(articleElement, "_configuring_options", "");
+            replaceH2SectionContent(articleElement, "_component_options",
+                "The component options can be retrieved via the tool getInformationAboutOptions");
+            replaceH2SectionContent(articleElement, "_endpoint_options",
+                "The endpoint options can be retrieved via the tool getInformationAboutOptions");
+
+            htmlContent = articleElement.html();
+        } else {
+            htmlContent = doc.html();
+        }
+
+        // Convert HTML to Markdown and clean it up
+        FlexmarkHtmlConverter converter = FlexmarkHtmlConverter.builder().build();
+        return cleanupMarkdown(converter.convert(htmlContent));
+    }
+
+    /**
+     * Replaces the content of a section (parent div of an h2 with specific id) with a message
+     */
+    private static void replaceH2SectionContent(Element root, String h2Id, String replacementText) {
+        Element h2 = root.selectFirst("h2#" + h2Id);
+        if (h2 != null && h2.parent() != null) {
+            Element parentDiv = h2.parent();
+            // Clear all content except the h2
+            parentDiv.children().forEach(child -> {
+                if (!child.equals(h2)) {
+                    child.remove();
+                }
+            });
+            // Add a paragraph with the replacement text
+            parentDiv.appendElement("p").text(replacementText);
+        }
+    }
+
+    /**
+     * Cleans up markdown by removing excessive whitespace and formatting issues
+     */
+    private static String cleanupMarkdown(String markdown) {
+        if (markdown == null || markdown.isEmpty()) {
+            return markdown;
+        }
+
+        // Remove consecutive blank lines (more than 2 newlines in a row)
+        // Keep maximum of 2 newlines (one blank line between sections)
+        markdown = markdown.replaceAll("\n{3,}", "\n\n");
+
+        // Remove consecutive spaces (more than 2 spaces)
+        // Preserve double spaces at end of lines for markdown line breaks
+        markdown = markdown.replaceAll("(?<!\\n) {3,}", " ");
+
+        // Clean up spaces before newlines
+        markdown = markdown.replaceAll(" +\n", "\n");
+
+        // Clean up tabs and replace with spaces
+        markdown = markdown.replaceAll("\t", "    ");
+
+        // Remove trailing whitespace from the entire document
+        markdown = markdown.trim();
+
+        return markdown;
+    }
+}
@@ -0,0 +1,139 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Section index of a converted documentation page.
+ * <p>
+ * The page is split on its h1, h2 and h3 headings, both ATX ({@code ## Title}) and setext ({@code Title} underlined
+ * with {@code ---}) as produced by Flexmark, ignoring anything inside fenced code blocks. Each section spans from its
+ * heading up to the next heading of the same or a higher level, so an h2 section includes its h3 subsections.
+ */
+public final class MarkdownSections {
+
+    /**
+     * A section of the page, {@code start} and {@code end} being character offsets into the Markdown.
+     */
+    public record Section(int level, String title, String anchor, int start, int end) {
+
+        boolean matches(String query) {
+            String normalized = normalize(query);
+            return normalized.equals(normalize(title)) || (anchor != null && normalized.equals(normalize(anchor)));
+        }
+    }
+
+    private static final Pattern ATX_HEADING = Pattern.compile("^(#{1,3})\\s+(.*?)\\s*#*\\s*$");
+    private static final Pattern SETEXT_H1 = Pattern.compile("^=+\\s*$");
+    private static final Pattern SETEXT_H2 = Pattern.compile("^-+\\s*$");
+    private static final Pattern ANCHOR = Pattern.compile("\\s*\\{#([^}]+)}\\s*$");
+
+    private final String markdown;
+    private final List<Section> sections;
+
+    private MarkdownSections(String markdown, List<Section> sections) {
+        this.markdown = markdown;
+        this.sections = sections;
+    }
+
+    public static MarkdownSections parse(String markdown) {
+        record Heading(int level, String text, int start) {
+        }
+
+        List<Heading> headings = new ArrayList<>();
+        boolean inFence = false;
+        String previousLine = null;
+        int previousStart = 0;
+
+        int lineStart = 0;
+        while (lineStart <= markdown.length()) {
+            int lineEnd = markdown.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = markdown.length();
+            }
+            String line = markdown.substring(lineStart, lineEnd);
+
+            // fences may be indented, as in list items
+            String stripped = line.stripLeading();
+            if (stripped.startsWith("```") || stripped.startsWith("~~~")) {
+                inFence = !inFence;
+                previousLine = null;
+            } else if (!inFence) {
+                Matcher atx = ATX_HEADING.matcher(line);
+                if (atx.matches()) {
+                    headings.add(new Heading(atx.group(1).length(), atx.group(2), lineStart));
+                    previousLine = null;
+                } else if (previousLine != null && !previousLine.isBlank() && SETEXT_H1.matcher(line).matches()) {
+                    headings.add(new Heading(1, previousLine.trim(), previousStart));
+                    previousLine = null;
+                } else if (previousLine != null && !previousLine.isBlank() && SETEXT_H2.matcher(line).matches()) {
+                    headings.add(new Heading(2, previousLine.trim(), previousStart));
+                    previousLine = null;
+                } else {
+                    previousLine = line;
+                    previousStart = lineStart;
+                }
+            }
+
+            lineStart = lineEnd + 1;
+        }
+
+        List<Section> sections = new ArrayList<>(headings.size());
+        for (int i = 0; i < headings.size(); i++) {
+            Heading heading = headings.get(i);
+            int end = markdown.length();
+            for (int j = i + 1; j < headings.size(); j++) {
+                if (headings.get(j).level() <= heading.level()) {
+                    end = headings.get(j).start();
+                    break;
+                }
+            }
+
+            String title = heading.text();
+            String anchor = null;
+            Matcher anchorMatcher = ANCHOR.matcher(title);
+            if (anchorMatcher.find()) {
+                anchor = anchorMatcher.group(1);
+                title = title.substring(0, anchorMatcher.start());
+            }
+            sections.add(new Section(heading.level(), title, anchor, heading.start(), end));
+        }
+
+        return new MarkdownSections(markdown, List.copyOf(sections));
+    }
+
+    public String markdown() {
+        return markdown;
+    }
+
+    public List<Section> sections() {
+        return sections;
+    }
+
+    /**
+     * Returns the sections whose title or anchor matches one of the given names (case-insensitive), in page order.
+     * A section nested in an already selected one is not repeated.
+     */
+    public List<Section> select(Collection<String> names) {
+        List<Section> selected = new ArrayList<>();
+        for (Section section : sections) {
+            boolean nested = !selected.isEmpty() && section.end() <= selected.get(selected.size() - 1).end();
+            if (!nested && names.stream().anyMatch(section::matches)) {
+                selected.add(section);
+            }
+        }
+        return selected;
+    }
+
+    public String content(Section section) {
+        return markdown.substring(section.start(), section.end()).trim();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("^[#_]+", "").replaceAll("[\\s_-]+", " ");
+    }
+}
@@ -0,0 +1,209 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import com.apache.camel.catalog.mcp.versions.Version;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.Startup;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Section index of the upgrade guides bundled under {@code guides/}.
+ * <p>
+ * The guides are read and split on their headings once, at startup. Every section gets the range of target versions
+ * it applies to: the version its heading names ({@code 4.0 → 4.1} or {@code 3.15.0}), else the range of its parent
+ * section, else the range of its guide (for example {@code 3.1.0} to {@code 3.x} for the Camel 3.x guide). A query for an
+ * upgrade then only returns the sections whose range overlaps the versions upgraded to.
+ */
+@Singleton
+@Startup
+public class UpgradeGuideIndex {
+
+    public static final String CAMEL = "camel";
+    public static final String CAMEL_QUARKUS = "camel-quarkus";
+
+    /**
+     * A section of a guide: its own text, without its subsections, and the range of versions it applies to.
+     */
+    public record Section(String guide, String product, String title, String fromVersion, String toVersion,
+                          String content) {
+
+        boolean matchesAny(Collection<String> keywords) {
+            String title = this.title.toLowerCase(Locale.ROOT);
+            String content = this.content.toLowerCase(Locale.ROOT);
+            return keywords.stream()
+                    .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                    .anyMatch(keyword -> title.contains(keyword) || content.contains(keyword));
+        }
+    }
+
+    private record Guide(String file, String product, String fromVersion, String toVersion) {
+    }
+
+    /**
+     * A section with its version range parsed, to compare it without parsing on every query.
+     */
+    private record Indexed(Section section, Version fromVersion, Version toVersion) {
+
+        boolean appliesTo(Version from, Version to) {
+            return toVersion.compareTo(from) > 0 && fromVersion.compareTo(to) <= 0;
+        }
+    }
+
+    /**
+     * The bundled guides, with the range of versions their sections apply to unless their headings tell otherwise.
+     */
+    private static final List<Guide> GUIDES = List.of(
+            new Guide("camel-3-migration-guide.md", CAMEL, "3.0.0", "3.0.0"),
+            new Guide("camel-3x-migration-guide.md", CAMEL, "3.1.0", "3.x"),
+            new Guide("camel-4-migration-guide.md", CAMEL, "4.0.0", "4.0.0"),
+            new Guide("camel-4x-migration-guide.md", CAMEL, "4.1.0", "4.x"),
+            new Guide("quarkus-2-migration.md", CAMEL_QUARKUS, "2.0.0", "2.x"),
+            new Guide("quarkus-3-migration.md", CAMEL_QUARKUS, "3.0.0", "3.x"));
+
+    private static final Pattern HEADING = Pattern.compile("^(#{1,6})\\s+(.*?)\\s*#*\\s*$");
+    private static final Pattern VERSION_STEP = Pattern.compile("(\\d+\\.\\d+(?:\\.\\d+)?)\\s*(?:→|->|to)\\s*(\\d+\\.\\d+(?:\\.\\d+)?)");
+    private static final Pattern VERSION = Pattern.compile("(?<![\\d.])(\\d+\\.\\d+(?:\\.\\d+)?)(?![\\d.])");
+
+    private final Map<String, String> guides = new LinkedHashMap<>();
+    private final List<Indexed> sections = new ArrayList<>();
+
+    public UpgradeGuideIndex() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (Guide guide : GUIDES) {
+            try (InputStream in = classLoader.getResourceAsStream("guides/" + guide.file())) {
+                if (in == null) {
+                    Log.warnf("Upgrade guide %s not found", guide.file());
+                    continue;
+                }
+                String markdown = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                guides.put(guide.file(), markdown);
+                index(guide, markdown);
+            } catch (IOException e) {
+                Log.warnf("Failed to load upgrade guide %s: %s", guide.file(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the full Markdown of a guide, or {@code null} if it is not bundled.
+     */
+    public String guide(String file) {
+        return guides.get(file);
+    }
+
+    /**
+     * Returns the sections of a product's guides that apply to an upgrade from {@code fromVersion} (exclusive) to
+     * {@code toVersion} (inclusive), in guide order, restricted to the sections mentioning one of the keywords when
+     * some are given.
+     *
+     * @param toVersion the version to upgrade to, the latest one covered by the guides when {@code null}
+     * @throws IllegalArgumentException if the product is unknown or a version is not a valid version
+     */
+    public List<Section> query(String product, String fromVersion, String toVersion, Collection<String> keywords) {
+        if (!CAMEL.equals(product) && !CAMEL_QUARKUS.equals(product)) {
+            throw new IllegalArgumentException("Unknown product '" + product + "'. Supported products: " + CAMEL + ", " + CAMEL_QUARKUS);
+        }
+        Version from = Version.parse(fromVersion);
+        Version to = toVersion == null || toVersion.isBlank() ? Version.endOf(Integer.MAX_VALUE) : Version.parse(toVersion);
+        if (from.compareTo(to) >= 0) {
+            throw new IllegalArgumentException("The version to upgrade to (" + toVersion
+                    + ") must be later than the version to upgrade from (" + fromVersion + ")");
+        }
+
+        List<Section> selected = new ArrayList<>();
+        for (Indexed indexed : sections) {
+            Section section = indexed.section();
+            if (section.product().equals(product) && indexed.appliesTo(from, to)
+                    && (keywords == null || keywords.isEmpty() || section.matchesAny(keywords))) {
+                selected.add(section);
+            }
+        }
+        return selected;
+    }
+
+    private void index(Guide guide, String markdown) {
+        record Open(int level, String title, String fromVersion, String toVersion, int contentStart) {
+        }
+
+        Deque<Open> open = new ArrayDeque<>();
+        List<Open> headings = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        boolean inFence = false;
+        int lineStart = 0;
+        while (lineStart <= markdown.length()) {
+            int lineEnd = markdown.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = markdown.length();
+            }
+            String line = markdown.substring(lineStart, lineEnd);
+
+            if (line.stripLeading().startsWith("```") || line.stripLeading().startsWith("~~~")) {
+                inFence = !inFence;
+            } else if (!inFence) {
+                Matcher heading = HEADING.matcher(line);
+                if (heading.matches()) {
+                    int level = heading.group(1).length();
+                    String title = heading.group(2).replace("*", "").strip();
+                    while (!open.isEmpty() && open.peek().level() >= level) {
+                        open.pop();
+                    }
+
+                    String fromVersion = open.isEmpty() ? guide.fromVersion() : open.peek().fromVersion();
+                    String toVersion = open.isEmpty() ? guide.toVersion() : open.peek().toVersion();
+                    Matcher step = VERSION_STEP.matcher(title);
+                    Matcher version = VERSION.matcher(title);
+                    if (step.find()) {
+                        fromVersion = toVersion = step.group(2);
+                    } else if (version.find()) {
+                        fromVersion = toVersion = version.group(1);
+                    }
+
+                    if (!headings.isEmpty()) {
+                        ends.add(lineStart);
+                    }
+                    Open section = new Open(level, title, fromVersion, toVersion, Math.min(lineEnd + 1, markdown.length()));
+                    open.push(section);
+                    headings.add(section);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        ends.add(markdown.length());
+
+        for (int i = 0; i < headings.size(); i++) {
+            Open heading = headings.get(i);
+            String content = markdown.substring(heading.contentStart(), ends.get(i)).strip();
+            // drop thematic breaks left between sections
+            while (content.endsWith("---")) {
+                content = content.substring(0, content.length() - 3).strip();
+            }
+            if (!content.isEmpty()) {
+                sections.add(new Indexed(new Section(guide.file(), guide.product(), heading.title(),
+                        heading.fromVersion(), heading.toVersion(), content),
+                        bound(heading.fromVersion()), bound(heading.toVersion())));
+            }
+        }
+    }
+
+    /**
+     * Parses a version of a section range, {@code N.x} standing for the end of the {@code N} line.
+     */
+    private static Version bound(String version) {
+        return version.endsWith(".x")
+                ? Version.endOf(Integer.parseInt(version.substring(0, version.length() - 2)))
+                : Version.parse(version);
+    }
+}
@@ -0,0 +1,301 @@
+package com.apache.camel.catalog.mcp.file;
+
+import io.quarkus.logging.Log;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches the contents of the files below a directory for a literal string.
+ * <p>
+ * The tree is walked once and its files are scanned on a bounded pool of worker threads, each file through a read-only
+ * memory mapping matched byte by byte against the UTF-8 encoding of the pattern, so nothing is decoded but the
+ * matching lines. Files larger than {@code fileserver.grep.max-file-bytes} and binary files, recognized by a NUL byte
+ * in their first block, are skipped. The first matches in path and line order are kept whatever the order the files
+ * are scanned in, so the whole tree is walked; once enough matches are found, a file past the last of them is only
+ * scanned up to its first match. The result is marked truncated only when a match was left out, so that a search
+ * with exactly as many matches as asked for is complete.
+ */
+@ApplicationScoped
+public class ContentSearcher {
+
+    /**
+     * A matching line: its file, its 1-based number and its text, cut to about {@value #MAX_SNIPPET_LENGTH} characters
+     * around the match.
+     */
+    record Match(String path, long line, String snippet) {
+
+        @Override
+        public String toString() {
+            return path + ":" + line + ":" + snippet;
+        }
+    }
+
+    record Result(List<Match> matches, boolean truncated) {
+    }
+
+    static final int MAX_SNIPPET_LENGTH = 200;
+
+    private static final Comparator<Match> MATCH_ORDER = Comparator.comparing(Match::path).thenComparingLong(Match::line);
+
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of(".git", ".svn", ".hg");
+    private static final int BINARY_PROBE_BYTES = 8192;
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final long maxFileBytes;
+    private final ExecutorService executor;
+
+    public ContentSearcher(@ConfigProperty(name = "fileserver.grep.max-file-bytes", defaultValue = "16777216") long maxFileBytes,
+                           @ConfigProperty(name = "fileserver.grep.parallelism", defaultValue = "0") int parallelism) {
+        this.maxFileBytes = maxFileBytes;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "grep-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Searches the files below {@code directory}, or {@code directory} itself if it is a file, for lines containing
+     * {@code pattern}.
+     *
+     * @param include    a glob the file names must match, all files when {@code null}
+     * @param ignoreCase whether to ignore the case of ASCII letters
+     * @param maxResults the number of matches to stop at
+     */
+    Result search(Path directory, String pattern, String include, boolean ignoreCase, int maxResults) throws IOException {
+        byte[] needle = pattern.getBytes(StandardCharsets.UTF_8);
+        if (ignoreCase) {
+            for (int i = 0; i < needle.length; i++) {
+                needle[i] = lower(needle[i]);
+            }
+        }
+        PathMatcher includeMatcher = include != null ? directory.getFileSystem().getPathMatcher("glob:" + include) : null;
+
+        Search search = new Search(needle, ignoreCase, maxResults);
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return !dir.equals(directory) && SKIPPED_DIRECTORIES.contains(dir.getFileName().toString())
+                        ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && attrs.size() > 0 && attrs.size() <= maxFileBytes
+                        && (includeMatcher == null || includeMatcher.matches(file.getFileName()))) {
+                    search.submit(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                Log.debugf("Skipping unreadable path %s: %s", file, e.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        search.await();
+
+        return new Result(search.matches(), search.truncated);
+    }
+
+    private static byte lower(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private static boolean isBinary(MappedByteBuffer buffer) {
+        int probe = Math.min(buffer.limit(), BINARY_PROBE_BYTES);
+        for (int i = 0; i < probe; i++) {
+            if (buffer.get(i) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The text of the line from {@code start} to {@code end}, or of a window around the match at {@code match} when
+     * the line is too long.
+     */
+    private static String snippet(MappedByteBuffer buffer, int start, int end, int match) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        boolean cutStart = false;
+        boolean cutEnd = false;
+        if (end - start > MAX_SNIPPET_LENGTH * 2) {
+            int from = Math.max(start, match - MAX_SNIPPET_LENGTH / 2);
+            cutStart = from > start;
+            cutEnd = from + MAX_SNIPPET_LENGTH < end;
+            start = from;
+            end = Math.min(end, from + MAX_SNIPPET_LENGTH);
+        }
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        String text = new String(bytes, StandardCharsets.UTF_8).strip();
+        if (text.length() > MAX_SNIPPET_LENGTH) {
+            text = text.substring(0, MAX_SNIPPET_LENGTH);
+            cutEnd = true;
+        }
+        return (cutStart ? "..." : "") + text + (cutEnd ? "..." : "");
+    }
+
+    /**
+     * State of one search: the files in flight and the first matches in path and line order found so far.
+     */
+    private final class Search {
+
+        private final byte[] needle;
+        private final boolean ignoreCase;
+        private final int maxResults;
+
+        private final TreeSet<Match> matches = new TreeSet<>(MATCH_ORDER);
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /**
+         * Whether a match was left out past {@code maxResults}.
+         */
+        private volatile boolean truncated;
+
+        private Search(byte[] needle, boolean ignoreCase, int maxResults) {
+            this.needle = needle;
+            this.ignoreCase = ignoreCase;
+            this.maxResults = maxResults;
+        }
+
+        /**
+         * Keeps a match if it is among the first {@code maxResults} so far, and returns whether it was kept; the later
+         * matches of its file would then be left out too.
+         */
+        private boolean offer(Match match) {
+            synchronized (matches) {
+                matches.add(match);
+                if (matches.size() <= maxResults) {
+                    return true;
+                }
+                truncated = true;
+                return matches.pollLast() != match;
+            }
+        }
+
+        private List<Match> matches() {
+            synchronized (matches) {
+                return new ArrayList<>(matches);
+            }
+        }
+
+        void submit(Path file) {
+            pending.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    scan(file);
+                } catch (IOException e) {
+                    Log.debugf("Skipping %s: %s", file, e.getMessage());
+                } finally {
+                    if (pending.decrementAndGet() == 0) {
+                        synchronized (this) {
+                            notifyAll();
+                        }
+                    }
+                }
+            });
+        }
+
+        synchronized void await() {
+            while (pending.get() > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedIOException(new IOException("Search interrupted"));
+                }
+            }
+        }
+
+        private void scan(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size == 0 || size > maxFileBytes) {
+                    return;
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                if (isBinary(buffer)) {
+                    return;
+                }
+
+                int limit = buffer.limit();
+                int last = limit - needle.length;
+                byte first = needle[0];
+                long line = 1;
+                int lineStart = 0;
+                for (int i = 0; i <= last; i++) {
+                    byte b = buffer.get(i);
+                    if (b == '\n') {
+                        line++;
+                        lineStart = i + 1;
+                        continue;
+                    }
+                    if ((ignoreCase ? lower(b) : b) != first || !matchesAt(buffer, i)) {
+                        continue;
+                    }
+
+                    int lineEnd = i + needle.length;
+                    while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                        lineEnd++;
+                    }
+                    if (!offer(new Match(file.toString(), line, snippet(buffer, lineStart, lineEnd, i)))) {
+                        return;
+                    }
+                    // one match per line: continue on the next one
+                    line++;
+                    lineStart = lineEnd + 1;
+                    i = lineEnd;
+                }
+            }
+        }
+
+        private boolean matchesAt(MappedByteBuffer buffer, int offset) {
+            for (int j = 1; j < needle.length; j++) {
+                byte b = buffer.get(offset + j);
+                if ((ignoreCase ? lower(b) : b) != needle[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.apache.camel.catalog.mcp.file;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,9 +19,60 @@ public class FSUtil {
 
     private List<String> allowedPaths;
 
+    /**
+     * The normalized allowed roots, without the roots nested in other roots, checked with {@link Path#startsWith}
+     * which compares the paths in place.
+     */
+    private final Path[] roots;
+
+    /**
+     * The roots with their symbolic links resolved, to check real paths against.
+     */
+    private final Path[] realRoots;
+
     public FSUtil(@ConfigProperty(name = "fileserver.paths") List<String> allowedPaths) {
         this.allowedPaths = allowedPaths.stream().map(FSUtil::expandHome).collect(Collectors.toList());
+        this.roots = minimalRoots(this.allowedPaths.stream().map(dir -> Path.of(dir).normalize()).toList());
+
+        List<Path> real = new ArrayList<>(List.of(roots));
+        for (Path root : roots) {
+            try {
+                real.add(root.toRealPath());
+            } catch (IOException e) {
+                Log.debug("Allowed path does not exist yet: " + root);
+            }
+        }
+        this.realRoots = minimalRoots(real);
+    }
+
+    private static Path[] minimalRoots(List<Path> paths) {
+        List<Path> sorted = paths.stream()
+                .sorted(Comparator.comparingInt(Path::getNameCount))
+                .toList();
+        List<Path> roots = new ArrayList<>();
+        for (Path root : sorted) {
+            if (roots.stream().noneMatch(root::startsWith)) {
+                roots.add(root);
+            }
+        }
+        return roots.toArray(new Path[0]);
+    }
+
+    private boolean isAllowed(Path normalizedPath) {
+        return isWithin(normalizedPath, roots);
+    }
+
+    private boolean isRealPathAllowed(Path realPath) {
+        return isWithin(realPath, realRoots);
+    }
 
+    private static boolean isWithin(Path path, Path[] roots) {
+        for (Path root : roots) {
+            if (path.startsWith(root)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static String expandHome(String filepath) {
@@ -36,7 +89,7 @@ public class FSUtil {
 
         Path resolvedPath = Path.of(path).normalize();
         Log.debug("Resolved path: " + resolvedPath);
-        if (!allowedPaths.stream().anyMatch(allowedPath -> resolvedPath.startsWith(Path.of(allowedPath).normalize()))) {
+        if (!isAllowed(resolvedPath)) {
             throw new ToolCallException("Access denied: Path '" + path + "' is not within allowed directories", null);
         }
         return resolvedPath;
@@ -52,43 +105,30 @@ public class FSUtil {
         Path normalizedRequested = absolute.normalize();
 
         // Check if path is within allowed directories
-        boolean isAllowed = allowedPaths.stream()
-                .map(dir -> Path.of(dir).normalize())
-                .anyMatch(dir -> normalizedRequested.startsWith(dir));
-
-        if (!isAllowed) {
+        if (!isAllowed(normalizedRequested)) {
             throw new ToolCallException(
                     String.format("Access denied - path outside allowed directories: %s not in %s",
                             absolute, String.join(", ", allowedPaths)),
                     null);
         }
 
+        Path parentDir = normalizedRequested.getParent();
         try {
-            // Handle symlinks by checking their real path
-            Path realPath = absolute.toRealPath();
-            Path normalizedReal = realPath.normalize();
+            // Handle symlinks by checking their real path, resolved on every call as any component of the path may
+            // have been replaced by a link since the last one
+            Path realPath = normalizedRequested.toRealPath();
 
-            boolean isRealPathAllowed = allowedPaths.stream()
-                    .map(dir -> Path.of(dir).normalize())
-                    .anyMatch(dir -> normalizedReal.startsWith(dir));
-
-            if (!isRealPathAllowed) {
+            if (!isRealPathAllowed(realPath)) {
                 throw new ToolCallException("Access denied - symlink target outside allowed directories", null);
             }
             return realPath;
 
         } catch (IOException e) {
             // For new files that don't exist yet, verify parent directory
-            Path parentDir = absolute.getParent();
             try {
                 Path realParentPath = parentDir.toRealPath();
-                Path normalizedParent = realParentPath.normalize();
-
-                boolean isParentAllowed = allowedPaths.stream()
-                        .map(dir -> Path.of(dir).normalize())
-                        .anyMatch(dir -> normalizedParent.startsWith(dir));
 
-                if (!isParentAllowed) {
+                if (!isRealPathAllowed(realParentPath)) {
                     throw new ToolCallException("Access denied - parent directory outside allowed directories",
                             null);
                 }
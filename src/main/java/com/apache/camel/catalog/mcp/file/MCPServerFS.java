@@ -1,5 +1,6 @@
 package com.apache.camel.catalog.mcp.file;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkiverse.mcp.server.McpLog;
@@ -8,17 +9,26 @@ import io.quarkiverse.mcp.server.ToolArg;
 import io.quarkiverse.mcp.server.ToolCallException;
 import io.quarkus.logging.Log;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.nio.file.Files.exists;
 
@@ -27,6 +37,27 @@ public class MCPServerFS {
     @Inject
     FSUtil util;
 
+    @Inject
+    RangedFileReader rangedFileReader;
+
+    @Inject
+    PathIndex pathIndex;
+
+    @Inject
+    ContentSearcher contentSearcher;
+
+    @ConfigProperty(name = "fileserver.read.max-file-bytes", defaultValue = "1048576")
+    long maxFileBytes;
+
+    @ConfigProperty(name = "fileserver.read.max-total-bytes", defaultValue = "8388608")
+    long maxTotalBytes;
+
+    @ConfigProperty(name = "fileserver.tree.max-entries", defaultValue = "10000")
+    int maxTreeEntries;
+
+    @ConfigProperty(name = "fileserver.grep.max-results", defaultValue = "500")
+    int maxGrepResults;
+
     private ObjectMapper mapper;
 
     public MCPServerFS(
@@ -34,14 +65,53 @@ public class MCPServerFS {
         this.mapper = mapper;
     }
 
-    @Tool(description = "Read the complete contents of a file from the file system. Handles various text encodings and provides detailed error messages if the file cannot be read. Use this tool when you need to examine the contents of a single file.")
-    String read_file(@ToolArg(description = "Path to the file to read") String path) {
-        Log.infof("Tool invoked: read_file(path=%s)", path);
+    @Tool(description = "Read the contents of a file from the file system. Handles various text encodings and provides detailed error messages if the file cannot be read. Use this tool when you need to examine the contents of a single file. Large files can be read in parts, either by byte range (offset and length) or by line range (startLine and endLine); without a range, files larger than the read limit are rejected. A line range cut short by the read limit ends with a note telling where to continue.")
+    String read_file(@ToolArg(description = "Path to the file to read") String path,
+                     @ToolArg(description = "Byte offset to start reading at (optional)", required = false) Long offset,
+                     @ToolArg(description = "Number of bytes to read from the offset (optional, defaults to the read limit)", required = false) Integer length,
+                     @ToolArg(description = "First line to read, starting at 1 (optional)", required = false) Long startLine,
+                     @ToolArg(description = "Last line to read, inclusive (optional, defaults to the end of the file within the read limit)", required = false) Long endLine) {
+        Log.infof("Tool invoked: read_file(path=%s, offset=%s, length=%s, startLine=%s, endLine=%s)",
+                path, offset, length, startLine, endLine);
         Path resolvedPath = util.validateAndResolvePath(path);
         if (!exists(resolvedPath)) {
             throw new ToolCallException("Path does not exist: " + path, null);
         }
+        if ((offset != null || length != null) && (startLine != null || endLine != null)) {
+            throw new ToolCallException("Use either offset/length or startLine/endLine, not both", null);
+        }
+        int limit = (int) Math.min(maxFileBytes, Integer.MAX_VALUE);
         try {
+            if (startLine != null || endLine != null) {
+                long first = startLine != null ? startLine : 1;
+                long last = endLine != null ? endLine : Long.MAX_VALUE;
+                if (first < 1 || last < first) {
+                    throw new ToolCallException("Invalid line range: " + first + " to " + endLine, null);
+                }
+                RangedFileReader.Lines lines = rangedFileReader.readLines(resolvedPath, first, last, limit);
+                if (!lines.truncated()) {
+                    return lines.text();
+                }
+                if (lines.endLine() < lines.startLine()) {
+                    return lines.text() + "\n(line " + lines.startLine() + " is longer than the " + limit
+                            + " bytes read limit, continue with offset=" + lines.nextOffset() + ")";
+                }
+                return lines.text() + "(stopped after line " + lines.endLine() + " of " + lines.totalLines()
+                        + " at the " + limit + " bytes read limit, continue with startLine=" + (lines.endLine() + 1) + ")";
+            }
+            if (offset != null || length != null) {
+                long from = offset != null ? offset : 0;
+                if (from < 0 || (length != null && length < 0)) {
+                    throw new ToolCallException("Offset and length must not be negative", null);
+                }
+                return rangedFileReader.read(resolvedPath, from, length != null ? Math.min(length, limit) : limit);
+            }
+
+            long size = Files.size(resolvedPath);
+            if (size > maxFileBytes) {
+                throw new ToolCallException("File is " + size + " bytes, more than the " + maxFileBytes
+                        + " bytes read limit. Read it in parts with offset/length or startLine/endLine.", null);
+            }
             return Files.readString(resolvedPath);
         } catch (IOException e) {
             throw new ToolCallException("Failed to read file: " + e.getMessage(), e);
@@ -56,21 +126,111 @@ public class MCPServerFS {
         }
     }
 
-    @Tool(description = "Read the contents of multiple files simultaneously. This is more efficient than reading files one by one when you need to analyze or compare multiple files. Each file's content is returned with its path as a reference. Failed reads for individual files won't stop the entire operation.")
+    @Tool(description = "Read the contents of multiple files simultaneously. This is more efficient than reading files one by one when you need to analyze or compare multiple files. Returns a JSON array with one entry per requested path, in request order: 'path', 'content', 'size' (bytes on disk) and 'truncated' when the content was cut to the size limits, or 'path' and 'error' when that file could not be read. Failed reads for individual files won't stop the entire operation.")
     String read_multiple_files(@ToolArg(description = "List of file paths to read") List<String> paths) {
         Log.infof("Tool invoked: read_multiple_files(paths=%s)", paths);
 
-        Map<String, String> result = new HashMap<>();
+        // resolve and stat every file, then share the total budget out in request order
+        List<FileRead> reads = new ArrayList<>(paths.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<FileRead>> stats = new ArrayList<>(paths.size());
+            for (String path : paths) {
+                stats.add(executor.submit(() -> stat(path)));
+            }
+            long remaining = maxTotalBytes;
+            for (Future<FileRead> stat : stats) {
+                FileRead read = stat.get();
+                if (read.error == null) {
+                    read.limit = Math.max(0, Math.min(Math.min(read.size, maxFileBytes), remaining));
+                    remaining -= read.limit;
+                }
+                reads.add(read);
+            }
+
+            List<Future<?>> contents = new ArrayList<>(reads.size());
+            for (FileRead read : reads) {
+                if (read.error == null) {
+                    contents.add(executor.submit(read::load));
+                }
+            }
+            for (Future<?> content : contents) {
+                content.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToolCallException("Interrupted while reading files", e);
+        } catch (ExecutionException e) {
+            throw new ToolCallException("Failed to read files: " + e.getCause().getMessage(), e.getCause());
+        }
 
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (FileRead read : reads) {
+                read.write(generator);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new ToolCallException("Failed to serialize object: " + e.getMessage(), e);
+        }
+        return out.toString();
+    }
+
+    private FileRead stat(String path) {
+        FileRead read = new FileRead(path);
         try {
-            for (String path : paths) {
-                var realpath = util.validateAndResolvePath(path);
-                result.put(path, Files.readString(realpath));
+            read.resolvedPath = util.validateAndResolvePath(path);
+            if (!Files.isRegularFile(read.resolvedPath)) {
+                read.error = exists(read.resolvedPath) ? "Path is not a file: " + path : "Path does not exist: " + path;
+            } else {
+                read.size = Files.size(read.resolvedPath);
             }
+        } catch (ToolCallException e) {
+            read.error = e.getMessage();
         } catch (IOException e) {
-            throw new ToolCallException("Failed to read file: " + e.getMessage(), e);
+            read.error = "Failed to read file: " + e.getMessage();
+        }
+        return read;
+    }
+
+    /**
+     * One entry of a {@code read_multiple_files} call, either its (possibly truncated) content or the reason it could
+     * not be read.
+     */
+    private static final class FileRead {
+        private final String path;
+        private Path resolvedPath;
+        private long size;
+        private long limit;
+        private String content;
+        private String error;
+
+        private FileRead(String path) {
+            this.path = path;
+        }
+
+        private void load() {
+            try (InputStream in = Files.newInputStream(resolvedPath)) {
+                content = new String(in.readNBytes((int) limit), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                error = "Failed to read file: " + e.getMessage();
+            }
+        }
+
+        private void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("path", path);
+            if (error != null) {
+                generator.writeStringField("error", error);
+            } else {
+                generator.writeStringField("content", content);
+                generator.writeNumberField("size", size);
+                if (limit < size) {
+                    generator.writeBooleanField("truncated", true);
+                }
+            }
+            generator.writeEndObject();
         }
-        return valueAsString(result);
     }
 
     @Tool(description = "Get a detailed listing of all files and directories in a specified path. Results clearly distinguish between files and directories with [FILE] and [DIR] prefixes. This tool is essential for understanding directory structure and finding specific files within a directory.")
@@ -98,52 +258,118 @@ public class MCPServerFS {
         }
     }
 
-    @Tool(description = "Get a recursive tree view of files and directories as a JSON structure. Each entry includes 'name', 'type' (file/directory), and 'children' for directories. Files have no children array, while directories always have a children array (which may be empty). The output is formatted with 2-space indentation for readability.")
-    String directory_tree(@ToolArg(description = "Root path to create tree from") String path) {
-        Log.infof("Tool invoked: directory_tree(path=%s)", path);
+    @Tool(description = "Get a recursive tree view of files and directories as a JSON structure. Each entry includes 'name', 'type' (file/directory/symlink), and 'children' for directories. Symbolic links below the root are reported as such and not followed. Files and links have no children array, while directories always have a children array (which may be empty). Directories whose children were not all listed, because of the depth or entry limits, have 'truncated' set to true, and unreadable directories have an 'error'. The output is formatted with 2-space indentation for readability, unless compact output is requested.")
+    String directory_tree(@ToolArg(description = "Root path to create tree from") String path,
+                          @ToolArg(description = "Maximum depth to descend to, 1 listing only the children of the root (optional, defaults to unlimited)", required = false) Integer maxDepth,
+                          @ToolArg(description = "Maximum number of entries to list (optional, defaults to the server limit)", required = false) Integer maxEntries,
+                          @ToolArg(description = "Glob patterns of names or relative paths to leave out, e.g. '.git' or '**/target' (optional)", required = false) List<String> exclude,
+                          @ToolArg(description = "Write the JSON without indentation (optional, defaults to false)", required = false) Boolean compact) {
+        Log.infof("Tool invoked: directory_tree(path=%s, maxDepth=%s, maxEntries=%s, exclude=%s, compact=%s)",
+                path, maxDepth, maxEntries, exclude, compact);
         Path resolvedPath = util.validateAndResolvePath(path);
         if (!exists(resolvedPath)) {
             throw new ToolCallException("Path does not exist: " + path, null);
         }
 
-        record TreeEntry(String name, String type, List<TreeEntry> children) {
+        int entryLimit = maxEntries != null && maxEntries > 0 ? Math.min(maxEntries, maxTreeEntries) : maxTreeEntries;
+        TreeWriter tree = new TreeWriter(resolvedPath, maxDepth != null && maxDepth > 0 ? maxDepth : Integer.MAX_VALUE,
+                entryLimit, exclude != null ? exclude : List.of());
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            if (!Boolean.TRUE.equals(compact)) {
+                generator.useDefaultPrettyPrinter();
+            }
+            tree.write(generator, resolvedPath, 0);
+        } catch (IOException e) {
+            throw new ToolCallException("Failed to build directory tree: " + e.getMessage(), e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Streams a {@code directory_tree} to a JSON generator while walking it, within a depth and an entry limit.
+     */
+    private static final class TreeWriter {
+        private final Path root;
+        private final int maxDepth;
+        private final List<PathMatcher> excludes;
+        private int remaining;
+
+        private TreeWriter(Path root, int maxDepth, int maxEntries, List<String> exclude) {
+            this.root = root;
+            this.maxDepth = maxDepth;
+            this.remaining = maxEntries;
+            this.excludes = exclude.stream()
+                    .map(pattern -> root.getFileSystem().getPathMatcher("glob:" + pattern))
+                    .toList();
+        }
+
+        private boolean excluded(Path path) {
+            Path name = path.getFileName();
+            Path relative = root.relativize(path);
+            return excludes.stream().anyMatch(matcher -> matcher.matches(name) || matcher.matches(relative));
         }
 
-        try {
-            var buildTree = new Function<Path, TreeEntry>() {
-                @Override
-                public TreeEntry apply(Path path) {
-                    try {
-                        String name = path.getFileName().toString();
-                        if (Files.isDirectory(path)) {
-                            List<TreeEntry> children = new ArrayList<>();
-                            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
-                                for (Path child : stream) {
-                                    children.add(this.apply(child));
-                                }
-                            }
-                            return new TreeEntry(name, "directory", children);
-                        } else {
-                            return new TreeEntry(name, "file", null);
+        private void write(JsonGenerator generator, Path path, int depth) throws IOException {
+            generator.writeStartObject();
+            Path name = path.getFileName();
+            generator.writeStringField("name", name != null ? name.toString() : path.toString());
+            // links below the root are not followed, so that a loop cannot repeat entries and no link leads outside
+            // the allowed directories
+            if (depth > 0 && Files.isSymbolicLink(path)) {
+                generator.writeStringField("type", "symlink");
+                generator.writeEndObject();
+                return;
+            }
+            if (!Files.isDirectory(path)) {
+                generator.writeStringField("type", "file");
+                generator.writeEndObject();
+                return;
+            }
+
+            generator.writeStringField("type", "directory");
+            generator.writeArrayFieldStart("children");
+            boolean truncated = false;
+            String error = null;
+            if (depth >= maxDepth) {
+                truncated = true;
+            } else {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+                    for (Path child : stream) {
+                        if (excluded(child)) {
+                            continue;
+                        }
+                        if (remaining == 0) {
+                            truncated = true;
+                            break;
                         }
-                    } catch (IOException e) {
-                        throw new ToolCallException("Failed to build directory tree: " + e.getMessage(), e);
+                        remaining--;
+                        write(generator, child, depth + 1);
+                    }
+                } catch (IOException e) {
+                    if (depth == 0) {
+                        throw e;
                     }
+                    error = e.getMessage();
                 }
-            };
-
-            TreeEntry root = buildTree.apply(resolvedPath);
-            return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
-        } catch (Exception e) {
-            Throwable cause = e instanceof ToolCallException ? e : e.getCause();
-            throw new ToolCallException("Failed to build directory tree: " + cause.getMessage(), cause);
+            }
+            generator.writeEndArray();
+            if (truncated) {
+                generator.writeBooleanField("truncated", true);
+            }
+            if (error != null) {
+                generator.writeStringField("error", error);
+            }
+            generator.writeEndObject();
         }
     }
 
-    @Tool(description = "Recursively search for files and directories matching a pattern. Searches through all subdirectories from the starting path. The search is case-insensitive and matches partial names. Returns full paths to all matching items. Great for finding files when you don't know their exact location.")
+    @Tool(description = "Recursively search for files and directories matching a pattern. Searches through all subdirectories from the starting path. By default the search is case-insensitive and matches partial names; a pattern with glob characters (*, ?, [ or {) is matched as a glob against the names instead, or against the paths relative to the starting path when it contains a '/' (e.g., '**/*.yaml'). Returns full paths to all matching items, in path order. Great for finding files when you don't know their exact location.")
     String search_files(@ToolArg(description = "Starting path for search") String path,
-                        @ToolArg(description = "Pattern to search for") String pattern) {
-        Log.infof("Tool invoked: search_files(path=%s, pattern=%s)", path, pattern);
+                        @ToolArg(description = "Pattern to search for") String pattern,
+                        @ToolArg(description = "Maximum number of paths to return (optional, defaults to all matches)", required = false) Integer maxResults) {
+        Log.infof("Tool invoked: search_files(path=%s, pattern=%s, maxResults=%s)", path, pattern, maxResults);
         Path resolvedPath = util.validateAndResolvePath(path);
         if (!exists(resolvedPath)) {
             throw new ToolCallException("Path does not exist: " + path, null);
@@ -152,28 +378,43 @@ public class MCPServerFS {
             throw new ToolCallException("Path is not a directory: " + path, null);
         }
 
-        List<String> matches = new ArrayList<>();
-        String lowerPattern = pattern.toLowerCase();
-
         try {
-            searchRecursive(resolvedPath, lowerPattern, matches);
-            return valueAsString(matches);
+            return valueAsString(pathIndex.search(resolvedPath, pattern, maxResults != null ? maxResults : 0));
         } catch (IOException e) {
             throw new ToolCallException("Failed to search files: " + e.getMessage(), e);
         }
     }
 
-    private void searchRecursive(Path directory, String lowerPattern, List<String> matches) throws IOException {
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
-            for (Path entry : stream) {
-                String fileName = entry.getFileName().toString().toLowerCase();
-                if (fileName.contains(lowerPattern)) {
-                    matches.add(entry.toString());
-                }
-                if (Files.isDirectory(entry)) {
-                    searchRecursive(entry, lowerPattern, matches);
-                }
+    @Tool(description = "Search the contents of the files below a directory for a literal string. Binary files and files over the size limit are skipped. Returns a JSON array of the first matching lines in path and line order, as 'path:line:snippet' with at most one match per line, followed by a note when more matches were left out past the maximum number of results. Use this instead of reading files to find where something is used or defined.")
+    String grep_files(@ToolArg(description = "Directory to search in, or a single file") String path,
+                      @ToolArg(description = "Literal text to search for") String pattern,
+                      @ToolArg(description = "Glob the file names must match, e.g. '*.java' or '*.{yaml,yml}' (optional)", required = false) String include,
+                      @ToolArg(description = "Ignore the case of ASCII letters (optional, defaults to false)", required = false) Boolean ignoreCase,
+                      @ToolArg(description = "Maximum number of matches to return (optional, defaults to the server limit)", required = false) Integer maxResults) {
+        Log.infof("Tool invoked: grep_files(path=%s, pattern=%s, include=%s, ignoreCase=%s, maxResults=%s)",
+                path, pattern, include, ignoreCase, maxResults);
+        Path resolvedPath = util.validateAndResolvePath(path);
+        if (!exists(resolvedPath)) {
+            throw new ToolCallException("Path does not exist: " + path, null);
+        }
+        if (pattern == null || pattern.isEmpty()) {
+            throw new ToolCallException("Pattern must not be empty", null);
+        }
+
+        int limit = maxResults != null && maxResults > 0 ? Math.min(maxResults, maxGrepResults) : maxGrepResults;
+        try {
+            ContentSearcher.Result result = contentSearcher.search(resolvedPath, pattern, include,
+                    Boolean.TRUE.equals(ignoreCase), limit);
+            List<String> lines = new ArrayList<>(result.matches().size() + 1);
+            for (ContentSearcher.Match match : result.matches()) {
+                lines.add(match.toString());
             }
+            if (result.truncated()) {
+                lines.add("(stopped after " + limit + " matches, narrow the search to see more)");
+            }
+            return valueAsString(lines);
+        } catch (IOException | UncheckedIOException e) {
+            throw new ToolCallException("Failed to search files: " + e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,461 @@
+package com.apache.camel.catalog.mcp.file;
+
+import io.quarkus.logging.Log;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * In-memory index of the paths below the directories searched with {@code search_files}.
+ * <p>
+ * The first search of a directory walks it once, listing its subdirectories in parallel, and registers every
+ * directory with a {@link WatchService}; later searches of that directory or of any directory below it are answered
+ * from memory, and the watch events keep the index current as files come and go. A search above indexed directories
+ * indexes the larger tree and drops the smaller ones. Trees are indexed on demand rather than per allowed root, as a
+ * root such as {@code /} is far too large to index whole.
+ * <p>
+ * The indexed entries are bounded by {@code fileserver.index.max-entries}; a directory too large to index within that
+ * budget, or whose subdirectories cannot all be watched, is searched on disk instead until another attempt is made
+ * {@code fileserver.index.retry} later, or as soon as trees are evicted for the watch failures. A tree whose watch
+ * events overflowed is rebuilt on its next search.
+ * <p>
+ * Symbolic links are matched as paths but not followed, whether the tree is indexed or walked on disk, so that a
+ * link can neither loop nor lead the search outside the directory.
+ */
+@ApplicationScoped
+public class PathIndex {
+
+    /**
+     * Indexed tree: every path below {@code root}, mapped to its lower-cased file name.
+     */
+    private static final class Tree {
+        private final Path root;
+        private final NavigableMap<String, String> entries = new ConcurrentSkipListMap<>();
+        private final Set<WatchKey> keys = ConcurrentHashMap.newKeySet();
+        private volatile boolean stale;
+
+        private Tree(Path root) {
+            this.root = root;
+        }
+    }
+
+    private record Registration(Tree tree, Path directory) {
+    }
+
+    /**
+     * A directory searched on disk until {@code retryAt}, because it is too large or could not be watched.
+     */
+    private record Unindexable(Instant retryAt, boolean watchFailure) {
+    }
+
+    /**
+     * Thrown to abandon the build of a tree that does not fit the entry budget.
+     */
+    private static final class TooLargeException extends RuntimeException {
+        private TooLargeException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final int maxEntries;
+    private final Duration retry;
+    private final ForkJoinPool pool;
+    private final WatchService watchService;
+    private final Map<WatchKey, Registration> registrations = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Path, CompletableFuture<Tree>> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Path, Unindexable> unindexable = new ConcurrentHashMap<>();
+
+    public PathIndex(@ConfigProperty(name = "fileserver.index.max-entries", defaultValue = "500000") int maxEntries,
+                     @ConfigProperty(name = "fileserver.index.parallelism", defaultValue = "0") int parallelism,
+                     @ConfigProperty(name = "fileserver.index.retry", defaultValue = "PT10M") Duration retry) {
+        this.maxEntries = maxEntries;
+        this.retry = retry;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+
+        WatchService service = null;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            Log.warnf("File watching is not available, searches will walk the file system: %s", e.getMessage());
+        }
+        this.watchService = service;
+        if (watchService != null) {
+            Thread watcher = new Thread(this::watch, "path-index-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                Log.debugf("Failed to close the watch service: %s", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Searches {@code directory} and everything below it for paths whose file name contains {@code pattern}, ignoring
+     * case. A pattern with glob characters ({@code * ? [ {}) is matched as a glob instead: against the file name, or
+     * against the path relative to {@code directory} when it contains a {@code /}.
+     *
+     * @param maxResults the maximum number of paths to return, unlimited when not positive
+     * @return the first matching paths in path order
+     */
+    public List<String> search(Path directory, String pattern, int maxResults) throws IOException {
+        Predicate<Map.Entry<String, String>> matcher = matcher(directory, pattern);
+        int limit = maxResults > 0 ? maxResults : Integer.MAX_VALUE;
+
+        Tree tree = tree(directory);
+        if (tree == null) {
+            return walk(directory, matcher, limit);
+        }
+
+        String prefix = prefix(directory);
+        List<String> matches = new ArrayList<>();
+        for (Map.Entry<String, String> entry : tree.entries.subMap(prefix, true, upperBound(prefix), false).entrySet()) {
+            if (matcher.test(entry)) {
+                matches.add(entry.getKey());
+                if (matches.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Predicate<Map.Entry<String, String>> matcher(Path directory, String pattern) {
+        if (pattern.chars().noneMatch(c -> "*?[{".indexOf(c) >= 0)) {
+            String lowerPattern = pattern.toLowerCase();
+            return entry -> entry.getValue().contains(lowerPattern);
+        }
+
+        PathMatcher glob = directory.getFileSystem().getPathMatcher("glob:" + pattern);
+        if (pattern.contains("/")) {
+            return entry -> glob.matches(directory.relativize(Path.of(entry.getKey())));
+        }
+        return entry -> glob.matches(Path.of(entry.getKey()).getFileName());
+    }
+
+    /**
+     * The tree to answer a search of {@code directory} from, indexing it first if no indexed tree contains it, or
+     * {@code null} if it has to be searched on disk.
+     */
+    private Tree tree(Path directory) {
+        if (watchService == null) {
+            return null;
+        }
+        Unindexable failure = unindexable.get(directory);
+        if (failure != null) {
+            if (failure.retryAt().isAfter(Instant.now())) {
+                return null;
+            }
+            unindexable.remove(directory, failure);
+        }
+
+        CompletableFuture<Tree> future = null;
+        boolean build = false;
+        synchronized (trees) {
+            for (Map.Entry<Path, CompletableFuture<Tree>> entry : trees.entrySet()) {
+                if (directory.startsWith(entry.getKey())) {
+                    future = trees.get(entry.getKey());
+                    break;
+                }
+            }
+            Tree indexed = future != null ? future.getNow(null) : null;
+            if (indexed != null && indexed.stale) {
+                trees.remove(indexed.root);
+                close(indexed);
+                future = null;
+            }
+            if (future == null) {
+                Iterator<Map.Entry<Path, CompletableFuture<Tree>>> contained = trees.entrySet().iterator();
+                while (contained.hasNext()) {
+                    Map.Entry<Path, CompletableFuture<Tree>> entry = contained.next();
+                    if (entry.getKey().startsWith(directory)) {
+                        contained.remove();
+                        entry.getValue().thenAccept(this::close);
+                    }
+                }
+                future = new CompletableFuture<>();
+                trees.put(directory, future);
+                build = true;
+            }
+        }
+
+        if (build) {
+            try {
+                future.complete(build(directory));
+                evict();
+            } catch (RuntimeException e) {
+                synchronized (trees) {
+                    trees.remove(directory, future);
+                }
+                future.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CancellationException | CompletionException e) {
+            return null;
+        }
+    }
+
+    private Tree build(Path directory) {
+        long start = System.currentTimeMillis();
+        Tree tree = new Tree(directory);
+        try {
+            pool.invoke(new IndexTask(tree, directory, new AtomicInteger()));
+        } catch (TooLargeException e) {
+            close(tree);
+            unindexable.put(directory, new Unindexable(Instant.now().plus(retry), false));
+            Log.infof("%s has more than %d entries, it will be searched on disk", directory, maxEntries);
+            throw e;
+        } catch (UncheckedIOException e) {
+            close(tree);
+            unindexable.put(directory, new Unindexable(Instant.now().plus(retry), true));
+            Log.warnf("Failed to watch %s, it will be searched on disk: %s", directory, e.getCause().getMessage());
+            throw e;
+        }
+        Log.infof("Indexed %d paths below %s in %d ms", tree.entries.size(), directory, System.currentTimeMillis() - start);
+        return tree;
+    }
+
+    /**
+     * Drops the least recently searched trees while the indexed entries exceed the budget, always keeping the most
+     * recent one. The watches they release may be enough for the directories that failed to be watched, which are
+     * then tried again on their next search.
+     */
+    private void evict() {
+        synchronized (trees) {
+            long total = 0;
+            List<Tree> done = new ArrayList<>();
+            for (CompletableFuture<Tree> future : trees.values()) {
+                Tree tree = future.getNow(null);
+                if (tree != null) {
+                    done.add(tree);
+                    total += tree.entries.size();
+                }
+            }
+            boolean evicted = false;
+            for (int i = 0; i < done.size() - 1 && total > maxEntries; i++) {
+                Tree tree = done.get(i);
+                trees.remove(tree.root);
+                close(tree);
+                total -= tree.entries.size();
+                evicted = true;
+            }
+            if (evicted) {
+                unindexable.values().removeIf(Unindexable::watchFailure);
+            }
+        }
+    }
+
+    private void close(Tree tree) {
+        for (WatchKey key : tree.keys) {
+            // a key is shared by every registration of its directory, leave it to the tree now watching it
+            Registration registration = registrations.get(key);
+            if (registration == null || registration.tree() == tree) {
+                registrations.remove(key);
+                key.cancel();
+            }
+        }
+        tree.keys.clear();
+    }
+
+    /**
+     * Lists one directory into the tree, forking a task for each of its subdirectories.
+     */
+    private final class IndexTask extends RecursiveAction {
+        private final Tree tree;
+        private final Path directory;
+        private final AtomicInteger count;
+
+        private IndexTask(Tree tree, Path directory, AtomicInteger count) {
+            this.tree = tree;
+            this.directory = directory;
+            this.count = count;
+        }
+
+        @Override
+        protected void compute() {
+            // watch before listing, so that nothing created in between is missed
+            register(tree, directory);
+            List<IndexTask> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path entry : stream) {
+                    if (count.incrementAndGet() > maxEntries) {
+                        throw new TooLargeException();
+                    }
+                    tree.entries.put(entry.toString(), entry.getFileName().toString().toLowerCase());
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        subdirectories.add(new IndexTask(tree, entry, count));
+                    }
+                }
+            } catch (IOException e) {
+                Log.debugf("Skipping unreadable directory %s: %s", directory, e.getMessage());
+            }
+            invokeAll(subdirectories);
+        }
+    }
+
+    private void register(Tree tree, Path directory) {
+        try {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            tree.keys.add(key);
+            registrations.put(key, new Registration(tree, directory));
+        } catch (IOException e) {
+            if (Files.isReadable(directory)) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Applies the watch events to the trees until the watch service is closed.
+     */
+    private void watch() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Registration registration = registrations.get(key);
+            if (registration != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    apply(registration, event);
+                }
+            }
+            if (!key.reset()) {
+                registrations.remove(key);
+                if (registration != null) {
+                    registration.tree().keys.remove(key);
+                }
+            }
+        }
+    }
+
+    private void apply(Registration registration, WatchEvent<?> event) {
+        Tree tree = registration.tree();
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            tree.stale = true;
+            return;
+        }
+
+        Path path = registration.directory().resolve((Path) event.context());
+        String key = path.toString();
+        if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+            tree.entries.remove(key);
+            String prefix = prefix(path);
+            tree.entries.subMap(prefix, true, upperBound(prefix), false).clear();
+            return;
+        }
+
+        tree.entries.put(key, path.getFileName().toString().toLowerCase());
+        if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+            try {
+                pool.invoke(new IndexTask(tree, path, new AtomicInteger(tree.entries.size())));
+            } catch (RuntimeException e) {
+                // too large or not watchable any more, rebuild on the next search
+                tree.stale = true;
+            }
+        }
+    }
+
+    /**
+     * Walks {@code directory} on disk, keeping the first {@code limit} matches in path order as the index would, which
+     * takes a walk of the whole tree.
+     */
+    private List<String> walk(Path directory, Predicate<Map.Entry<String, String>> matcher, int limit) throws IOException {
+        TreeSet<String> matches = new TreeSet<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return dir.equals(directory) ? FileVisitResult.CONTINUE : visit(dir);
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                return visit(file);
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                // an unreadable directory is still a match candidate itself
+                return file.equals(directory) ? FileVisitResult.CONTINUE : visit(file);
+            }
+
+            private FileVisitResult visit(Path path) {
+                if (matcher.test(Map.entry(path.toString(), path.getFileName().toString().toLowerCase()))) {
+                    matches.add(path.toString());
+                    if (matches.size() > limit) {
+                        matches.pollLast();
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * The prefix shared by the paths below {@code directory}.
+     */
+    private static String prefix(Path directory) {
+        String separator = directory.getFileSystem().getSeparator();
+        String path = directory.toString();
+        return path.endsWith(separator) ? path : path + separator;
+    }
+
+    /**
+     * The first string after every string starting with {@code prefix}, which ends with a separator.
+     */
+    private static String upperBound(String prefix) {
+        return prefix.substring(0, prefix.length() - 1) + (char) (prefix.charAt(prefix.length() - 1) + 1);
+    }
+}
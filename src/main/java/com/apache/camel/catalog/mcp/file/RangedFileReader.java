@@ -0,0 +1,184 @@
+package com.apache.camel.catalog.mcp.file;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads byte or line ranges of (possibly very large) files without loading them whole.
+ * <p>
+ * Byte ranges are read with a positional {@link FileChannel} read. Line ranges go through a sparse line index that
+ * records the offset of every {@value #CHECKPOINT_INTERVAL}th line; it is built once per file by scanning a memory
+ * mapping of the file and cached until the file's size or modification time change, so a line range only scans the
+ * lines between the nearest checkpoint and the end of the range.
+ */
+@ApplicationScoped
+public class RangedFileReader {
+
+    static final int CHECKPOINT_INTERVAL = 1024;
+
+    private static final int MAX_CACHED_INDEXES = 64;
+    private static final long MAP_CHUNK = 64L * 1024 * 1024;
+
+    /**
+     * Sparse line index: {@code checkpoints[i]} is the offset of line {@code i * CHECKPOINT_INTERVAL} (0-based).
+     */
+    private record LineIndex(long size, long lastModified, long[] checkpoints, long lines) {
+    }
+
+    /**
+     * A line range of a file: its text, the 1-based numbers of its first and last lines and the number of lines in
+     * the file. When the byte limit cut the range short, {@code truncated} is set and {@code nextOffset} is the offset
+     * of the first byte not read; the text then ends with the last whole line that fit, or is the start of
+     * {@code startLine} if even that line did not fit, {@code endLine} being {@code startLine - 1}.
+     */
+    record Lines(String text, long startLine, long endLine, long totalLines, boolean truncated, long nextOffset) {
+    }
+
+    private final Map<Path, LineIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, LineIndex> eldest) {
+            return size() > MAX_CACHED_INDEXES;
+        }
+    };
+
+    /**
+     * Reads at most {@code length} bytes starting at {@code offset}, fewer if the file ends first.
+     */
+    String read(Path file, long offset, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = read(channel, offset, length);
+            return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+        long available = Math.max(0, channel.size() - offset);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, available));
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads the lines {@code startLine} to {@code endLine} (1-based, inclusive), stopping early at the end of the
+     * file or after {@code maxBytes} bytes.
+     */
+    Lines readLines(Path file, long startLine, long endLine, int maxBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            LineIndex index = index(file, channel);
+            if (startLine > index.lines()) {
+                return new Lines("", startLine, startLine - 1, index.lines(), false, index.size());
+            }
+            long last = Math.min(endLine, index.lines());
+
+            long start = lineOffset(channel, index, startLine - 1);
+            long end = last >= index.lines() ? index.size() : lineOffset(channel, index, last);
+            if (end - start <= maxBytes) {
+                ByteBuffer buffer = read(channel, start, (int) (end - start));
+                return new Lines(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8),
+                        startLine, last, index.lines(), false, end);
+            }
+
+            // cut at the end of the last whole line that fits, so that the next read can start at the next line
+            ByteBuffer buffer = read(channel, start, maxBytes);
+            byte[] bytes = buffer.array();
+            int length = buffer.position();
+            int wholeLines = 0;
+            int cut = 0;
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] == '\n') {
+                    wholeLines++;
+                    cut = i + 1;
+                }
+            }
+            if (wholeLines == 0) {
+                cut = length;
+            }
+            return new Lines(new String(bytes, 0, cut, StandardCharsets.UTF_8), startLine, startLine + wholeLines - 1,
+                    index.lines(), true, start + cut);
+        }
+    }
+
+    private LineIndex index(Path file, FileChannel channel) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        synchronized (indexes) {
+            LineIndex cached = indexes.get(file);
+            if (cached != null && cached.size() == attributes.size() && cached.lastModified() == lastModified) {
+                return cached;
+            }
+        }
+
+        long size = channel.size();
+        long[] checkpoints = new long[16];
+        int count = 1;
+        long lines = 0;
+        for (long position = 0; position < size; position += MAP_CHUNK) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK, size - position));
+            while (buffer.hasRemaining()) {
+                if (buffer.get() == '\n') {
+                    lines++;
+                    if (lines % CHECKPOINT_INTERVAL == 0) {
+                        if (count == checkpoints.length) {
+                            checkpoints = Arrays.copyOf(checkpoints, count * 2);
+                        }
+                        checkpoints[count++] = position + buffer.position();
+                    }
+                }
+            }
+        }
+        // a last line without a trailing newline still counts
+        if (size > 0 && lastByte(channel, size) != '\n') {
+            lines++;
+        }
+
+        LineIndex index = new LineIndex(size, lastModified, Arrays.copyOf(checkpoints, count), lines);
+        synchronized (indexes) {
+            indexes.put(file, index);
+        }
+        return index;
+    }
+
+    private static byte lastByte(FileChannel channel, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        channel.read(buffer, size - 1);
+        return buffer.get(0);
+    }
+
+    /**
+     * Offset of the given 0-based line, scanning forward from the closest checkpoint.
+     */
+    private static long lineOffset(FileChannel channel, LineIndex index, long line) throws IOException {
+        int checkpoint = (int) (line / CHECKPOINT_INTERVAL);
+        long position = index.checkpoints()[checkpoint];
+        long remaining = line - (long) checkpoint * CHECKPOINT_INTERVAL;
+        while (remaining > 0 && position < index.size()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK, index.size() - position));
+            while (remaining > 0 && buffer.hasRemaining()) {
+                if (buffer.get() == '\n') {
+                    remaining--;
+                }
+            }
+            position += buffer.position();
+        }
+        return position;
+    }
+}
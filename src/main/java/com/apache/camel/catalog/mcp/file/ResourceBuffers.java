@@ -0,0 +1,43 @@
+package com.apache.camel.catalog.mcp.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Opens binary classpath resources as read-only buffers.
+ */
+public final class ResourceBuffers {
+
+    private ResourceBuffers() {
+    }
+
+    /**
+     * Returns the content of the given resource, or {@code null} if it does not exist.
+     * The resource is memory-mapped when it lives on the file system and read in a single pass otherwise
+     * (e.g. from within a jar or a native image).
+     */
+    public static ByteBuffer open(ClassLoader classLoader, String resource) throws IOException {
+        URL url = classLoader.getResource(resource);
+        if (url == null) {
+            return null;
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid resource location: " + url, e);
+            }
+        }
+
+        try (InputStream in = url.openStream()) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.apache.camel.catalog.mcp.file;
+
+import com.apache.camel.catalog.mcp.index.CatalogPool;
+import com.apache.camel.catalog.mcp.validation.EndpointValidator;
+import com.apache.camel.catalog.mcp.validation.RouteEndpointExtractor;
+import com.apache.camel.catalog.mcp.validation.UpgradeImpactScanner;
+import com.felipestanzani.jtoon.JToon;
+import io.quarkiverse.mcp.server.Progress;
+import io.quarkiverse.mcp.server.Tool;
+import io.quarkiverse.mcp.server.ToolArg;
+import io.quarkiverse.mcp.server.ToolCallException;
+import io.quarkus.logging.Log;
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RouteFileTools {
+
+    record RouteEndpoint(int line, String kind, String uri, boolean valid, int errors, int warnings, String message) {
+    }
+
+    record RouteAnalysis(String path, int endpoints, int invalid, List<RouteEndpoint> results) {
+    }
+
+    @Inject
+    FSUtil util;
+
+    private EndpointValidator endpointValidator;
+
+    private CatalogPool catalogPool;
+
+    private UpgradeImpactScanner upgradeImpactScanner;
+
+    public RouteFileTools(EndpointValidator endpointValidator, CatalogPool catalogPool,
+                          UpgradeImpactScanner upgradeImpactScanner) {
+        this.endpointValidator = endpointValidator;
+        this.catalogPool = catalogPool;
+        this.upgradeImpactScanner = upgradeImpactScanner;
+    }
+
+    @Tool(description = "Analyzes a Camel route file (YAML, XML or Java DSL) on the server: extracts every 'from', 'to' and 'toD' endpoint URI with its line number and validates them all against the Camel catalog. Use this instead of reading the file and validating its endpoints one by one.")
+    String analyze_route_file(@ToolArg(description = "Path to the route file (.yaml, .yml, .xml or .java)") String path) {
+        Log.infof("Tool invoked: analyze_route_file(path=%s)", path);
+
+        Path resolvedPath;
+        try {
+            resolvedPath = util.validatePath(path);
+        } catch (IOException e) {
+            throw new ToolCallException("Failed to resolve path: " + e.getMessage(), e);
+        }
+        if (!Files.isRegularFile(resolvedPath)) {
+            throw new ToolCallException("Path is not a file: " + path, null);
+        }
+        if (!RouteEndpointExtractor.isSupported(resolvedPath)) {
+            throw new ToolCallException("Unsupported route file type: " + path
+                    + ". Supported extensions are .yaml, .yml, .xml and .java", null);
+        }
+
+        final List<RouteEndpointExtractor.Endpoint> endpoints;
+        try {
+            endpoints = RouteEndpointExtractor.extract(resolvedPath);
+        } catch (IOException e) {
+            throw new ToolCallException("Failed to read route file: " + e.getMessage(), e);
+        }
+
+        List<EndpointValidator.Summary> summaries = endpointValidator.validate(
+                endpoints.stream().map(RouteEndpointExtractor.Endpoint::uri).toList());
+
+        List<RouteEndpoint> results = new ArrayList<>(endpoints.size());
+        int invalid = 0;
+        for (int i = 0; i < endpoints.size(); i++) {
+            RouteEndpointExtractor.Endpoint endpoint = endpoints.get(i);
+            EndpointValidator.Summary summary = summaries.get(i);
+            if (!summary.valid()) {
+                invalid++;
+            }
+            results.add(new RouteEndpoint(endpoint.line(), endpoint.kind(), endpoint.uri(), summary.valid(),
+                    summary.errors(), summary.warnings(), summary.message()));
+        }
+
+        return JToon.encode(new RouteAnalysis(path, results.size(), invalid, results));
+    }
+
+    @Tool(description = "Scans a project directory for Camel route files (YAML, XML and Java DSL) and reports, grouped by file, every endpoint URI and EIP use that is broken or deprecated in a target Camel version: unknown components or options, invalid values, removed or renamed EIPs, and deprecated components and EIPs. Findings are also sent as progress notifications while the scan runs. Use this to assess the impact of a Camel upgrade on a whole project in one call.")
+    String scan_upgrade_impact(@ToolArg(description = "Path to the project directory to scan") String path,
+                               @ToolArg(description = "The Camel version to upgrade to (e.g., '4.14.0'). Defaults to the bundled catalog version.", required = false) String targetVersion,
+                               @ToolArg(description = "The Camel version the project currently uses (e.g., '4.4.0'), used to recognize EIPs removed or renamed in the target version. Defaults to the bundled catalog version.", required = false) String fromVersion,
+                               Progress progress) {
+        Log.infof("Tool invoked: scan_upgrade_impact(path=%s, targetVersion=%s, fromVersion=%s)", path, targetVersion, fromVersion);
+
+        Path resolvedPath;
+        try {
+            resolvedPath = util.validatePath(path);
+        } catch (IOException e) {
+            throw new ToolCallException("Failed to resolve path: " + e.getMessage(), e);
+        }
+        if (!Files.isDirectory(resolvedPath)) {
+            throw new ToolCallException("Path is not a directory: " + path, null);
+        }
+
+        final CatalogPool.VersionedCatalog target;
+        final CatalogPool.VersionedCatalog from;
+        try {
+            target = catalogPool.get(targetVersion);
+            from = catalogPool.get(fromVersion);
+        } catch (IllegalArgumentException e) {
+            throw new ToolCallException(e.getMessage(), e);
+        }
+
+        AtomicInteger reported = new AtomicInteger();
+        try {
+            UpgradeImpactScanner.ScanResult result = upgradeImpactScanner.scan(resolvedPath, from, target, impact -> {
+                if (progress.token().isPresent()) {
+                    String message = JToon.encode(impact);
+                    // the scan workers report concurrently, and the progress sent must increase with each notification
+                    synchronized (reported) {
+                        progress.notificationBuilder()
+                                .setProgress(reported.incrementAndGet())
+                                .setMessage(message)
+                                .build()
+                                .sendAndForget();
+                    }
+                }
+            });
+            return JToon.encode(result);
+        } catch (IOException | UncheckedIOException e) {
+            throw new ToolCallException("Failed to scan directory: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.apache.camel.catalog.mcp.index;
+
+import jakarta.inject.Singleton;
+import org.apache.camel.tooling.model.BaseModel;
+import org.apache.camel.tooling.model.BaseOptionModel;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Structural differences between the catalogs of two Camel versions.
+ * <p>
+ * For every kind (components, data formats, languages and EIPs) the differ reports the added, removed and newly
+ * deprecated entries, and for the entries present in both versions the added, removed and newly deprecated options
+ * and the changed default values. Removed and added EIPs that share their title or Java type, or that have similar
+ * names and share most of their own options, are reported as renamed; options such as {@code id} or
+ * {@code description}, which many EIPs have, say nothing of a rename and are left out of that comparison.
+ * <p>
+ * Entries are compared one by one and each comparison is memoized per version pair, so a diff restricted to a few
+ * components only compares those, and later diffs of the same pair reuse the comparisons already made.
+ */
+@Singleton
+public class CatalogDiffer {
+
+    public static final List<String> KINDS = List.of("component", "dataformat", "language", "eip");
+
+    public record CatalogDiff(String fromVersion, String toVersion, List<KindDiff> kinds) {
+    }
+
+    public record KindDiff(String kind, List<String> added, List<String> removed, List<String> deprecated,
+                           List<Rename> renamed, List<ModelDiff> changed) {
+    }
+
+    public record Rename(String from, String to) {
+    }
+
+    public record ModelDiff(String name, List<String> addedOptions, List<String> removedOptions,
+                            List<String> deprecatedOptions, List<DefaultChange> defaultChanges) {
+
+        boolean isEmpty() {
+            return addedOptions.isEmpty() && removedOptions.isEmpty() && deprecatedOptions.isEmpty()
+                    && defaultChanges.isEmpty();
+        }
+    }
+
+    public record DefaultChange(String option, Object from, Object to) {
+    }
+
+    /**
+     * Options sharing this fraction of their names make a removed and an added EIP a rename.
+     */
+    private static final double RENAME_SIMILARITY = 0.8;
+
+    /**
+     * The fewest options a removed and an added EIP must share, not counting the shared options, to make a rename.
+     */
+    private static final int RENAME_MIN_COMMON_OPTIONS = 2;
+
+    /**
+     * Options held by this fraction of the EIPs of a catalog are shared options, ignored to detect renames.
+     */
+    private static final double SHARED_OPTION_FRACTION = 0.25;
+
+    /**
+     * The largest edit distance between the names of a removed and an added EIP sharing their options, as a fraction of
+     * the longer name, for them to be a rename.
+     */
+    private static final double RENAME_NAME_DISTANCE = 1.0 / 3;
+
+    private final CatalogPool catalogPool;
+    private final Map<String, Map<String, ModelDiff>> comparisons;
+
+    public CatalogDiffer(CatalogPool catalogPool,
+                         @ConfigProperty(name = "catalog.diff.max-version-pairs", defaultValue = "16") int maxPairs) {
+        this.catalogPool = catalogPool;
+        this.comparisons = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, ModelDiff>> eldest) {
+                return size() > maxPairs;
+            }
+        };
+    }
+
+    /**
+     * Computes the diff between two catalog versions.
+     *
+     * @param kinds the kinds to compare, all of them when {@code null} or empty
+     * @param names the entry names to compare, all of them when {@code null} or empty
+     * @throws IllegalArgumentException if a version is not available or a kind is unknown
+     */
+    public CatalogDiff diff(String fromVersion, String toVersion, Collection<String> kinds, Collection<String> names) {
+        CatalogPool.VersionedCatalog from = catalogPool.get(fromVersion);
+        CatalogPool.VersionedCatalog to = catalogPool.get(toVersion);
+        Map<String, ModelDiff> memo = comparisons(from.version(), to.version());
+        Set<String> selectedNames = names == null || names.isEmpty() ? null : Set.copyOf(names);
+
+        List<KindDiff> result = new ArrayList<>();
+        for (String kind : kinds == null || kinds.isEmpty() ? KINDS : kinds) {
+            result.add(switch (kind) {
+                case "component" -> diff(kind, from.index().components(), to.index().components(), selectedNames, memo);
+                case "dataformat" -> diff(kind, from.index().dataFormats(), to.index().dataFormats(), selectedNames, memo);
+                case "language" -> diff(kind, from.index().languages(), to.index().languages(), selectedNames, memo);
+                case "eip" -> diff(kind, from.index().models(), to.index().models(), selectedNames, memo);
+                default -> throw new IllegalArgumentException("Unknown kind '" + kind + "'. Supported kinds: " + String.join(", ", KINDS));
+            });
+        }
+        return new CatalogDiff(from.version(), to.version(), result);
+    }
+
+    private Map<String, ModelDiff> comparisons(String fromVersion, String toVersion) {
+        synchronized (comparisons) {
+            return comparisons.computeIfAbsent(fromVersion + ".." + toVersion, key -> new ConcurrentHashMap<>());
+        }
+    }
+
+    private static <M extends BaseModel<?>> KindDiff diff(String kind, CatalogIndex.Table<M> from, CatalogIndex.Table<M> to,
+                                                          Set<String> names, Map<String, ModelDiff> memo) {
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<String> deprecated = new ArrayList<>();
+        List<ModelDiff> changed = new ArrayList<>();
+
+        for (String name : to.names()) {
+            if ((names == null || names.contains(name)) && !from.contains(name)) {
+                added.add(name);
+            }
+        }
+        for (String name : from.names()) {
+            if (names != null && !names.contains(name)) {
+                continue;
+            }
+            if (!to.contains(name)) {
+                removed.add(name);
+                continue;
+            }
+            M before = from.model(name);
+            M after = to.model(name);
+            if (after.isDeprecated() && !before.isDeprecated()) {
+                deprecated.add(name);
+            }
+            ModelDiff modelDiff = memo.computeIfAbsent(kind + ":" + name, key -> compare(name, before, after));
+            if (!modelDiff.isEmpty()) {
+                changed.add(modelDiff);
+            }
+        }
+
+        List<Rename> renamed = "eip".equals(kind) ? renames(from, to, removed, added) : List.of();
+        for (Rename rename : renamed) {
+            removed.remove(rename.from());
+            added.remove(rename.to());
+        }
+        return new KindDiff(kind, added, removed, deprecated, renamed, changed);
+    }
+
+    private static ModelDiff compare(String name, BaseModel<?> before, BaseModel<?> after) {
+        Map<String, BaseOptionModel> beforeOptions = options(before);
+        Map<String, BaseOptionModel> afterOptions = options(after);
+
+        List<String> addedOptions = new ArrayList<>();
+        List<String> removedOptions = new ArrayList<>();
+        List<String> deprecatedOptions = new ArrayList<>();
+        List<DefaultChange> defaultChanges = new ArrayList<>();
+
+        for (String option : afterOptions.keySet()) {
+            if (!beforeOptions.containsKey(option)) {
+                addedOptions.add(option);
+            }
+        }
+        beforeOptions.forEach((option, beforeOption) -> {
+            BaseOptionModel afterOption = afterOptions.get(option);
+            if (afterOption == null) {
+                removedOptions.add(option);
+                return;
+            }
+            if (afterOption.isDeprecated() && !beforeOption.isDeprecated()) {
+                deprecatedOptions.add(option);
+            }
+            if (!Objects.equals(Objects.toString(beforeOption.getDefaultValue(), null),
+                    Objects.toString(afterOption.getDefaultValue(), null))) {
+                defaultChanges.add(new DefaultChange(option, beforeOption.getDefaultValue(), afterOption.getDefaultValue()));
+            }
+        });
+        return new ModelDiff(name, addedOptions, removedOptions, deprecatedOptions, defaultChanges);
+    }
+
+    /**
+     * The options of a model by name. The component-level options of a component are suffixed with
+     * {@code (component)} to tell them apart from its endpoint options.
+     */
+    private static Map<String, BaseOptionModel> options(BaseModel<?> model) {
+        Map<String, BaseOptionModel> options = new LinkedHashMap<>();
+        if (model instanceof ComponentModel component) {
+            component.getComponentOptions().forEach(option -> options.put(option.getName() + " (component)", option));
+            component.getEndpointOptions().forEach(option -> options.put(option.getName(), option));
+        } else {
+            model.getOptions().forEach(option -> options.put(option.getName(), option));
+        }
+        return options;
+    }
+
+    private static <M extends BaseModel<?>> List<Rename> renames(CatalogIndex.Table<M> from, CatalogIndex.Table<M> to,
+                                                                 List<String> removed, List<String> added) {
+        List<Rename> renames = new ArrayList<>();
+        if (removed.isEmpty() || added.isEmpty()) {
+            return renames;
+        }
+        Set<String> shared = sharedOptions(from);
+        shared.addAll(sharedOptions(to));
+
+        Set<String> matched = new HashSet<>();
+        for (String oldName : removed) {
+            M before = from.model(oldName);
+            for (String newName : added) {
+                if (!matched.contains(newName) && isRename(before, to.model(newName), shared)) {
+                    renames.add(new Rename(oldName, newName));
+                    matched.add(newName);
+                    break;
+                }
+            }
+        }
+        return renames;
+    }
+
+    private static boolean isRename(BaseModel<?> before, BaseModel<?> after, Set<String> shared) {
+        if (before.getJavaType() != null && before.getJavaType().equals(after.getJavaType())) {
+            return true;
+        }
+        if (before.getTitle() != null && before.getTitle().equalsIgnoreCase(after.getTitle())) {
+            return true;
+        }
+        if (!isSimilarName(before.getName(), after.getName())) {
+            return false;
+        }
+        Set<String> beforeOptions = optionNames(before);
+        Set<String> afterOptions = optionNames(after);
+        beforeOptions.removeAll(shared);
+        afterOptions.removeAll(shared);
+        Set<String> common = new HashSet<>(beforeOptions);
+        common.retainAll(afterOptions);
+        if (common.size() < RENAME_MIN_COMMON_OPTIONS) {
+            return false;
+        }
+        Set<String> all = new HashSet<>(beforeOptions);
+        all.addAll(afterOptions);
+        return (double) common.size() / all.size() >= RENAME_SIMILARITY;
+    }
+
+    private static boolean isSimilarName(String before, String after) {
+        String a = before.toLowerCase(Locale.ROOT);
+        String b = after.toLowerCase(Locale.ROOT);
+        return a.contains(b) || b.contains(a)
+                || NameMatcher.distance(a, b) <= Math.max(a.length(), b.length()) * RENAME_NAME_DISTANCE;
+    }
+
+    /**
+     * The options held by at least {@link #SHARED_OPTION_FRACTION} of the models of a table.
+     */
+    private static Set<String> sharedOptions(CatalogIndex.Table<? extends BaseModel<?>> table) {
+        Map<String, Integer> counts = new HashMap<>();
+        int models = 0;
+        for (String name : table.names()) {
+            BaseModel<?> model = table.model(name);
+            if (model != null) {
+                models++;
+                optionNames(model).forEach(option -> counts.merge(option, 1, Integer::sum));
+            }
+        }
+        int threshold = (int) Math.ceil(models * SHARED_OPTION_FRACTION);
+        Set<String> shared = new HashSet<>();
+        counts.forEach((option, count) -> {
+            if (count >= threshold) {
+                shared.add(option);
+            }
+        });
+        return shared;
+    }
+
+    private static Set<String> optionNames(BaseModel<?> model) {
+        return model.getOptions().stream().map(BaseOptionModel::getName).collect(Collectors.toCollection(HashSet::new));
+    }
+}
@@ -0,0 +1,218 @@
+package com.apache.camel.catalog.mcp.index;
+
+import io.quarkus.logging.Log;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.BaseModel;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.apache.camel.tooling.model.DataFormatModel;
+import org.apache.camel.tooling.model.EipModel;
+import org.apache.camel.tooling.model.JsonMapper;
+import org.apache.camel.tooling.model.Kind;
+import org.apache.camel.tooling.model.LanguageModel;
+import org.apache.camel.tooling.model.TransformerModel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory view of a {@link CamelCatalog}.
+ * <p>
+ * Entries are keyed by name and resolved at most once: after the first lookup (or after {@link #preload()}),
+ * tool invocations only perform hash lookups and never re-read or re-parse the catalog JSON resources.
+ * The index is backed either by a {@link CatalogSnapshot} or, when no snapshot is available, by the catalog itself.
+ */
+public final class CatalogIndex {
+
+    private final String version;
+    private final Table<ComponentModel> components;
+    private final Table<DataFormatModel> dataFormats;
+    private final Table<LanguageModel> languages;
+    private final Table<EipModel> models;
+    private final Table<TransformerModel> transformers;
+    private final Map<String, OptionIndex> componentOptions = new ConcurrentHashMap<>();
+
+    private CatalogIndex(String version,
+                         Table<ComponentModel> components,
+                         Table<DataFormatModel> dataFormats,
+                         Table<LanguageModel> languages,
+                         Table<EipModel> models,
+                         Table<TransformerModel> transformers) {
+        this.version = version;
+        this.components = components;
+        this.dataFormats = dataFormats;
+        this.languages = languages;
+        this.models = models;
+        this.transformers = transformers;
+    }
+
+    /**
+     * Builds an index resolving its entries through the given catalog.
+     */
+    public static CatalogIndex build(CamelCatalog catalog) {
+        return new CatalogIndex(
+                catalog.getLoadedVersion() != null ? catalog.getLoadedVersion() : catalog.getCatalogVersion(),
+                new Table<>(catalog.findComponentNames(), catalog::componentJSonSchema, catalog::componentModel),
+                new Table<>(catalog.findDataFormatNames(), catalog::dataFormatJSonSchema, catalog::dataFormatModel),
+                new Table<>(catalog.findLanguageNames(), catalog::languageJSonSchema, catalog::languageModel),
+                new Table<>(catalog.findModelNames(), catalog::modelJSonSchema, catalog::eipModel),
+                new Table<>(catalog.findTransformerNames(), catalog::transformerJSonSchema, catalog::transformerModel));
+    }
+
+    /**
+     * Builds an index decoding its entries from the given snapshot.
+     */
+    public static CatalogIndex build(CatalogSnapshot snapshot) {
+        return new CatalogIndex(
+                snapshot.version(),
+                Table.fromSnapshot(snapshot, Kind.component, JsonMapper::generateComponentModel),
+                Table.fromSnapshot(snapshot, Kind.dataformat, JsonMapper::generateDataFormatModel),
+                Table.fromSnapshot(snapshot, Kind.language, JsonMapper::generateLanguageModel),
+                Table.fromSnapshot(snapshot, Kind.model, JsonMapper::generateEipModel),
+                Table.fromSnapshot(snapshot, Kind.transformer, JsonMapper::generateTransformerModel));
+    }
+
+    /**
+     * Resolves every entry up front, trading startup time for predictable latency on first use.
+     */
+    public CatalogIndex preload() {
+        long start = System.currentTimeMillis();
+
+        components.preload();
+        dataFormats.preload();
+        languages.preload();
+        models.preload();
+        transformers.preload();
+
+        Log.infof("Catalog index for Camel %s preloaded in %d ms (%d components, %d data formats, %d languages, %d models, %d transformers)",
+                version, System.currentTimeMillis() - start,
+                components.size(), dataFormats.size(), languages.size(), models.size(), transformers.size());
+        return this;
+    }
+
+    /**
+     * The Camel version the index was built from.
+     */
+    public String version() {
+        return version;
+    }
+
+    public Table<ComponentModel> components() {
+        return components;
+    }
+
+    /**
+     * The options of a component keyed by name, indexed along with its model on first use, or {@code null} if the
+     * component is not part of the catalog.
+     */
+    public OptionIndex componentOptions(String name) {
+        ComponentModel model = components.model(name);
+        return model != null ? componentOptions.computeIfAbsent(name, key -> OptionIndex.of(model)) : null;
+    }
+
+    public Table<DataFormatModel> dataFormats() {
+        return dataFormats;
+    }
+
+    public Table<LanguageModel> languages() {
+        return languages;
+    }
+
+    public Table<EipModel> models() {
+        return models;
+    }
+
+    public Table<TransformerModel> transformers() {
+        return transformers;
+    }
+
+    /**
+     * Name-keyed entries of one catalog kind, holding both the raw JSON schema and its parsed model.
+     */
+    public static final class Table<M extends BaseModel<?>> {
+
+        private final List<String> names;
+        private final Set<String> nameSet;
+        private final Function<String, String> schemaLookup;
+        private final Function<String, M> modelLookup;
+        private final Map<String, String> schemas = new ConcurrentHashMap<>();
+        private final Map<String, M> models = new ConcurrentHashMap<>();
+        private volatile NameMatcher matcher;
+
+        Table(List<String> names, Function<String, String> schemaLookup, Function<String, M> modelLookup) {
+            this.names = names != null ? List.copyOf(names) : Collections.emptyList();
+            this.nameSet = Set.copyOf(this.names);
+            this.schemaLookup = schemaLookup;
+            this.modelLookup = modelLookup;
+        }
+
+        static <M extends BaseModel<?>> Table<M> fromSnapshot(CatalogSnapshot snapshot, Kind kind, Function<String, M> parser) {
+            return new Table<>(snapshot.names(kind),
+                    name -> snapshot.schema(kind, name),
+                    name -> {
+                        String schema = snapshot.schema(kind, name);
+                        return schema != null ? parser.apply(schema) : null;
+                    });
+        }
+
+        void preload() {
+            for (String name : names) {
+                schema(name);
+                model(name);
+            }
+        }
+
+        /**
+         * All names of this kind, in catalog order.
+         */
+        public List<String> names() {
+            return names;
+        }
+
+        /**
+         * The raw JSON schema for the given name, or {@code null} if it is not part of the catalog.
+         */
+        public String schema(String name) {
+            return contains(name) ? schemas.computeIfAbsent(name, schemaLookup) : null;
+        }
+
+        /**
+         * The parsed model for the given name, or {@code null} if it is not part of the catalog.
+         */
+        public M model(String name) {
+            return contains(name) ? models.computeIfAbsent(name, modelLookup) : null;
+        }
+
+        /**
+         * All parsed models of this kind, resolving the ones not looked up yet.
+         */
+        public Collection<M> models() {
+            preload();
+            return Collections.unmodifiableCollection(models.values());
+        }
+
+        /**
+         * Typo-tolerant matcher over the names of this kind, built on first use.
+         */
+        public NameMatcher matcher() {
+            NameMatcher result = matcher;
+            if (result == null) {
+                result = NameMatcher.of(names);
+                matcher = result;
+            }
+            return result;
+        }
+
+        public boolean contains(String name) {
+            return name != null && nameSet.contains(name);
+        }
+
+        public int size() {
+            return names.size();
+        }
+    }
+}
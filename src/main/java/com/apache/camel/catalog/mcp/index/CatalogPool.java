@@ -0,0 +1,216 @@
+package com.apache.camel.catalog.mcp.index;
+
+import com.apache.camel.catalog.mcp.file.FSUtil;
+import io.quarkus.logging.Log;
+import jakarta.inject.Singleton;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.catalog.DefaultCamelCatalog;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catalogs of other Camel versions, side by side with the bundled one.
+ * <p>
+ * A version is loaded on first use from its {@code camel-catalog} jar, looked up in the local Maven repository and in
+ * the catalog cache directory, without any network access. Loaded versions are kept in an LRU bounded by the
+ * estimated memory they use; the bundled catalog is never evicted.
+ */
+@Singleton
+public class CatalogPool {
+
+    /**
+     * A catalog together with the index built over it.
+     */
+    public record VersionedCatalog(String version, CamelCatalog catalog, CatalogIndex index) {
+    }
+
+    private record Pooled(VersionedCatalog catalog, long weight) {
+    }
+
+    /**
+     * Parsed models and cached schemas roughly double the footprint of the raw resources.
+     */
+    private static final int WEIGHT_FACTOR = 2;
+
+    private final VersionedCatalog bundled;
+    private final Path mavenRepository;
+    private final Path cacheDir;
+    private final long maxBytes;
+
+    private final Map<String, Pooled> pool = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Pooled>> loading = new ConcurrentHashMap<>();
+    private long totalWeight;
+
+    public CatalogPool(CamelCatalog camelCatalog, CatalogIndex catalogIndex,
+                       @ConfigProperty(name = "catalog.versions.maven-repository", defaultValue = "~/.m2/repository") String mavenRepository,
+                       @ConfigProperty(name = "catalog.versions.cache-dir", defaultValue = "~/.camel-catalog-mcp/catalogs") String cacheDir,
+                       @ConfigProperty(name = "catalog.versions.max-bytes", defaultValue = "268435456") long maxBytes) {
+        this.bundled = new VersionedCatalog(catalogIndex.version(), camelCatalog, catalogIndex);
+        this.mavenRepository = Path.of(FSUtil.expandHome(mavenRepository));
+        this.cacheDir = Path.of(FSUtil.expandHome(cacheDir));
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * The bundled catalog.
+     */
+    public VersionedCatalog bundled() {
+        return bundled;
+    }
+
+    /**
+     * Returns the catalog of the given version, loading it if needed. A {@code null} or blank version selects the
+     * bundled catalog.
+     *
+     * @throws IllegalArgumentException if no catalog jar of that version is available locally
+     */
+    public VersionedCatalog get(String version) {
+        if (version == null || version.isBlank() || version.trim().equals(bundled.version())) {
+            return bundled;
+        }
+        String requested = version.trim();
+
+        synchronized (pool) {
+            Pooled pooled = pool.get(requested);
+            if (pooled != null) {
+                return pooled.catalog();
+            }
+        }
+
+        CompletableFuture<Pooled> future = new CompletableFuture<>();
+        CompletableFuture<Pooled> existing = loading.putIfAbsent(requested, future);
+        if (existing != null) {
+            return join(existing).catalog();
+        }
+        try {
+            Pooled loaded = load(requested);
+            add(requested, loaded);
+            future.complete(loaded);
+            return loaded.catalog();
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(requested);
+        }
+    }
+
+    /**
+     * The versions that can be loaded: the bundled one and every version with a catalog jar available locally.
+     */
+    public List<String> availableVersions() {
+        TreeSet<String> versions = new TreeSet<>();
+        versions.add(bundled.version());
+
+        Path mavenDir = mavenRepository.resolve("org/apache/camel/camel-catalog");
+        if (Files.isDirectory(mavenDir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(mavenDir, Files::isDirectory)) {
+                for (Path dir : stream) {
+                    String version = dir.getFileName().toString();
+                    if (Files.isRegularFile(dir.resolve(jarName(version)))) {
+                        versions.add(version);
+                    }
+                }
+            } catch (IOException e) {
+                Log.debugf("Failed to list catalog versions in %s: %s", mavenDir, e.getMessage());
+            }
+        }
+        if (Files.isDirectory(cacheDir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "camel-catalog-*.jar")) {
+                for (Path jar : stream) {
+                    String name = jar.getFileName().toString();
+                    versions.add(name.substring("camel-catalog-".length(), name.length() - ".jar".length()));
+                }
+            } catch (IOException e) {
+                Log.debugf("Failed to list catalog versions in %s: %s", cacheDir, e.getMessage());
+            }
+        }
+        return new ArrayList<>(versions);
+    }
+
+    private Pooled load(String version) {
+        Path jar = locate(version);
+        if (jar == null) {
+            throw new IllegalArgumentException("Camel catalog version " + version + " is not available locally. Available versions: "
+                    + String.join(", ", availableVersions()));
+        }
+
+        long start = System.currentTimeMillis();
+        JarVersionManager versionManager;
+        try {
+            versionManager = JarVersionManager.load(version, jar);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load Camel catalog " + version + " from " + jar, e);
+        }
+
+        DefaultCamelCatalog catalog = new DefaultCamelCatalog(true);
+        catalog.setVersionManager(versionManager);
+        VersionedCatalog versioned = new VersionedCatalog(version, catalog, CatalogIndex.build(catalog));
+
+        Log.infof("Loaded Camel catalog %s from %s in %d ms", version, jar, System.currentTimeMillis() - start);
+        return new Pooled(versioned, versionManager.size() * WEIGHT_FACTOR);
+    }
+
+    private Path locate(String version) {
+        // the version ends up in a path, only accept plain version strings
+        if (!version.matches("[0-9A-Za-z.\\-]+")) {
+            return null;
+        }
+        Path maven = mavenRepository.resolve("org/apache/camel/camel-catalog").resolve(version).resolve(jarName(version));
+        if (Files.isRegularFile(maven)) {
+            return maven;
+        }
+        Path cached = cacheDir.resolve(jarName(version));
+        return Files.isRegularFile(cached) ? cached : null;
+    }
+
+    private static String jarName(String version) {
+        return "camel-catalog-" + version + ".jar";
+    }
+
+    private void add(String version, Pooled pooled) {
+        synchronized (pool) {
+            Pooled previous = pool.put(version, pooled);
+            if (previous != null) {
+                totalWeight -= previous.weight();
+            }
+            totalWeight += pooled.weight();
+
+            Iterator<Map.Entry<String, Pooled>> eldest = pool.entrySet().iterator();
+            while (totalWeight > maxBytes && pool.size() > 1 && eldest.hasNext()) {
+                Map.Entry<String, Pooled> entry = eldest.next();
+                if (entry.getKey().equals(version)) {
+                    continue;
+                }
+                totalWeight -= entry.getValue().weight();
+                eldest.remove();
+                Log.infof("Evicted Camel catalog %s from the catalog pool", entry.getKey());
+            }
+        }
+    }
+
+    private static Pooled join(CompletableFuture<Pooled> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
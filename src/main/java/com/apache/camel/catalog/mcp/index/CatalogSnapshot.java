@@ -0,0 +1,197 @@
+package com.apache.camel.catalog.mcp.index;
+
+import com.apache.camel.catalog.mcp.file.ResourceBuffers;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.Kind;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot of the bundled Camel catalog, produced at build time by {@link CatalogSnapshotBuilder}.
+ * <p>
+ * Layout (big endian):
+ * <pre>
+ * int    magic, int format
+ * int    stringCount, then stringCount x (int offset, int length) into the blob
+ * int    catalog version (string index)
+ * int    kindCount, then per kind: int kind ordinal, int entryCount, entryCount x (int name, int schema)
+ * int    blobLength, byte[] blob (UTF-8 of every distinct string, concatenated)
+ * </pre>
+ * Strings are interned, so repeated values are stored once. Only the header is read when the snapshot is opened,
+ * individual strings are decoded from the blob on demand.
+ */
+public final class CatalogSnapshot {
+
+    public static final String RESOURCE = "catalog/catalog.snapshot";
+
+    static final int MAGIC = 0x43434D53;
+    static final int FORMAT = 1;
+
+    static final List<Kind> KINDS = List.of(Kind.component, Kind.dataformat, Kind.language, Kind.model, Kind.transformer);
+
+    private final ByteBuffer buffer;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final String version;
+    private final Map<Kind, Map<String, Integer>> entries;
+
+    private CatalogSnapshot(ByteBuffer buffer) {
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a catalog snapshot");
+        }
+        int format = header.getInt();
+        if (format != FORMAT) {
+            throw new IllegalStateException("Unsupported catalog snapshot format " + format);
+        }
+
+        int stringCount = header.getInt();
+        this.offsets = new int[stringCount];
+        this.lengths = new int[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            offsets[i] = header.getInt();
+            lengths[i] = header.getInt();
+        }
+        int versionIndex = header.getInt();
+
+        int kindCount = header.getInt();
+        Map<Kind, int[]> rawEntries = new EnumMap<>(Kind.class);
+        for (int k = 0; k < kindCount; k++) {
+            Kind kind = Kind.values()[header.getInt()];
+            int entryCount = header.getInt();
+            int[] pairs = new int[entryCount * 2];
+            for (int i = 0; i < pairs.length; i++) {
+                pairs[i] = header.getInt();
+            }
+            rawEntries.put(kind, pairs);
+        }
+
+        int blobLength = header.getInt();
+        this.buffer = header.slice(header.position(), blobLength);
+
+        this.version = string(versionIndex);
+        this.entries = new EnumMap<>(Kind.class);
+        rawEntries.forEach((kind, pairs) -> {
+            Map<String, Integer> byName = new LinkedHashMap<>(pairs.length);
+            for (int i = 0; i < pairs.length; i += 2) {
+                byName.put(string(pairs[i]), pairs[i + 1]);
+            }
+            entries.put(kind, Collections.unmodifiableMap(byName));
+        });
+    }
+
+    /**
+     * Opens the snapshot bundled on the classpath, or returns {@code null} if the build did not produce one.
+     */
+    public static CatalogSnapshot load(ClassLoader classLoader) throws IOException {
+        ByteBuffer buffer = ResourceBuffers.open(classLoader, RESOURCE);
+        return buffer != null ? new CatalogSnapshot(buffer) : null;
+    }
+
+    /**
+     * The Camel catalog version the snapshot was taken from.
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * The entry names of the given kind, in catalog order.
+     */
+    public List<String> names(Kind kind) {
+        return List.copyOf(entries.getOrDefault(kind, Map.of()).keySet());
+    }
+
+    /**
+     * Decodes the JSON schema of the given entry, or returns {@code null} if the snapshot does not contain it.
+     */
+    public String schema(Kind kind, String name) {
+        Integer index = entries.getOrDefault(kind, Map.of()).get(name);
+        return index != null ? string(index) : null;
+    }
+
+    private String string(int index) {
+        byte[] bytes = new byte[lengths[index]];
+        buffer.get(offsets[index], bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a snapshot of the given catalog.
+     */
+    public static void write(CamelCatalog catalog, OutputStream out) throws IOException {
+        Map<String, Integer> interned = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+
+        int versionIndex = intern(catalog.getCatalogVersion(), interned, strings);
+
+        Map<Kind, List<int[]>> kinds = new EnumMap<>(Kind.class);
+        for (Kind kind : KINDS) {
+            List<int[]> pairs = new ArrayList<>();
+            for (String name : catalog.findNames(kind)) {
+                String schema = switch (kind) {
+                    case component -> catalog.componentJSonSchema(name);
+                    case dataformat -> catalog.dataFormatJSonSchema(name);
+                    case language -> catalog.languageJSonSchema(name);
+                    case model -> catalog.modelJSonSchema(name);
+                    case transformer -> catalog.transformerJSonSchema(name);
+                    default -> null;
+                };
+                if (schema != null) {
+                    pairs.add(new int[] { intern(name, interned, strings), intern(schema, interned, strings) });
+                }
+            }
+            kinds.put(kind, pairs);
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT);
+
+        data.writeInt(strings.size());
+        int offset = 0;
+        for (byte[] bytes : strings) {
+            data.writeInt(offset);
+            data.writeInt(bytes.length);
+            offset += bytes.length;
+        }
+        data.writeInt(versionIndex);
+
+        data.writeInt(kinds.size());
+        for (Map.Entry<Kind, List<int[]>> kind : kinds.entrySet()) {
+            data.writeInt(kind.getKey().ordinal());
+            data.writeInt(kind.getValue().size());
+            for (int[] pair : kind.getValue()) {
+                data.writeInt(pair[0]);
+                data.writeInt(pair[1]);
+            }
+        }
+
+        ByteArrayOutputStream blob = new ByteArrayOutputStream(offset);
+        for (byte[] bytes : strings) {
+            blob.write(bytes);
+        }
+        data.writeInt(blob.size());
+        blob.writeTo(data);
+        data.flush();
+    }
+
+    private static int intern(String value, Map<String, Integer> interned, List<byte[]> strings) {
+        return interned.computeIfAbsent(value, v -> {
+            strings.add(v.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.apache.camel.catalog.mcp.index;
+
+import org.apache.camel.catalog.DefaultCamelCatalog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build-time entry point writing the {@link CatalogSnapshot} of the bundled catalog.
+ * <p>
+ * Invoked by the {@code exec-maven-plugin} during {@code process-classes} with the output directory as argument,
+ * so the snapshot ends up on the classpath of both the JVM and the native packages.
+ */
+public final class CatalogSnapshotBuilder {
+
+    private CatalogSnapshotBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CatalogSnapshotBuilder <output directory>");
+        }
+
+        Path target = Path.of(args[0]).resolve(CatalogSnapshot.RESOURCE);
+        Files.createDirectories(target.getParent());
+
+        DefaultCamelCatalog catalog = new DefaultCamelCatalog();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            CatalogSnapshot.write(catalog, out);
+        }
+
+        System.out.printf("Wrote Camel %s catalog snapshot to %s (%d bytes)%n",
+                catalog.getCatalogVersion(), target, Files.size(target));
+    }
+}
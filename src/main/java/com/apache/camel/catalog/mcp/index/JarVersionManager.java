@@ -0,0 +1,98 @@
+package com.apache.camel.catalog.mcp.index;
+
+import org.apache.camel.catalog.VersionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * {@link VersionManager} serving the catalog resources of one {@code camel-catalog} jar.
+ * <p>
+ * The resources are read into memory once, so the jar is not kept open and a catalog using this manager can be
+ * dropped at any time without releasing file handles. Loading other versions is not supported.
+ */
+final class JarVersionManager implements VersionManager {
+
+    private static final String CATALOG_PREFIX = "org/apache/camel/catalog/";
+
+    private final String version;
+    private final Map<String, byte[]> resources;
+    private final long size;
+    private ClassLoader classLoader;
+
+    private JarVersionManager(String version, Map<String, byte[]> resources, long size) {
+        this.version = version;
+        this.resources = resources;
+        this.size = size;
+    }
+
+    static JarVersionManager load(String version, Path jar) throws IOException {
+        Map<String, byte[]> resources = new HashMap<>();
+        long size = 0;
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            var entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                // the XML schemas are not used by the catalog lookups
+                if (entry.isDirectory() || !entry.getName().startsWith(CATALOG_PREFIX) || entry.getName().endsWith(".xsd")) {
+                    continue;
+                }
+                try (InputStream in = zip.getInputStream(entry)) {
+                    byte[] bytes = in.readAllBytes();
+                    resources.put(entry.getName(), bytes);
+                    size += bytes.length;
+                }
+            }
+        }
+        return new JarVersionManager(version, resources, size);
+    }
+
+    /**
+     * Total size in bytes of the resources held in memory.
+     */
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void setClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    @Override
+    public String getLoadedVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean loadVersion(String version) {
+        return this.version.equals(version);
+    }
+
+    @Override
+    public String getRuntimeProviderLoadedVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean loadRuntimeProviderVersion(String groupId, String artifactId, String version) {
+        return false;
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+        byte[] bytes = resources.get(name.startsWith("/") ? name.substring(1) : name);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+}
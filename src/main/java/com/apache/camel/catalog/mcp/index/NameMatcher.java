@@ -0,0 +1,153 @@
+package com.apache.camel.catalog.mcp.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Typo-tolerant lookup of catalog names, backed by a BK-tree over the Damerau-Levenshtein distance (Levenshtein plus
+ * transpositions of adjacent characters), so a query only visits the subtrees that can hold close matches. The tree
+ * relies on the triangle inequality to prune, which is why it uses the unrestricted distance rather than the cheaper
+ * optimal string alignment one, which does not satisfy it.
+ */
+public final class NameMatcher {
+
+    /**
+     * A candidate name with its edit distance to the query.
+     */
+    public record Match(String name, int distance) {
+    }
+
+    private static final class Node {
+        private final String name;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Node root;
+    private final List<String> names;
+
+    private NameMatcher(Node root, List<String> names) {
+        this.root = root;
+        this.names = names;
+    }
+
+    public static NameMatcher of(Collection<String> names) {
+        Node root = null;
+        for (String name : names) {
+            if (root == null) {
+                root = new Node(name);
+                continue;
+            }
+            Node node = root;
+            while (true) {
+                int distance = distance(name, node.name);
+                if (distance == 0) {
+                    break;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(name));
+                    break;
+                }
+                node = child;
+            }
+        }
+        return new NameMatcher(root, List.copyOf(names));
+    }
+
+    /**
+     * Returns the names within the default tolerance of the query (a third of its length, between 1 and 3 edits),
+     * closest first and at most {@code limit} of them. When no name is that close, the names containing the query
+     * (such as {@code mongodb} for {@code mongo}) are returned instead, shortest first.
+     */
+    public List<Match> closest(String query, int limit) {
+        String normalized = query.toLowerCase(Locale.ROOT);
+        int maxDistance = Math.max(1, Math.min(3, normalized.length() / 3));
+
+        List<Match> matches = new ArrayList<>();
+        if (root != null) {
+            collect(root, normalized, maxDistance, matches);
+        }
+        if (matches.isEmpty() && !normalized.isEmpty()) {
+            for (String name : names) {
+                if (name.contains(normalized)) {
+                    matches.add(new Match(name, name.length() - normalized.length()));
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::name));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : List.copyOf(matches);
+    }
+
+    /**
+     * Returns the single clearly best match for the query, i.e. the only closest name when it is at most two edits
+     * away and strictly closer than any other candidate, or {@code null} if the query is ambiguous.
+     */
+    public String resolve(String query) {
+        List<Match> matches = closest(query, 2);
+        if (matches.isEmpty() || matches.get(0).distance() > 2) {
+            return null;
+        }
+        if (matches.size() > 1 && matches.get(1).distance() == matches.get(0).distance()) {
+            return null;
+        }
+        return matches.get(0).name();
+    }
+
+    private static void collect(Node node, String query, int maxDistance, List<Match> matches) {
+        int distance = distance(query, node.name);
+        if (distance <= maxDistance) {
+            matches.add(new Match(node.name, distance));
+        }
+        for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+            Node child = node.children.get(d);
+            if (child != null) {
+                collect(child, query, maxDistance, matches);
+            }
+        }
+    }
+
+    /**
+     * Damerau-Levenshtein distance between two strings, allowing edits between transposed characters.
+     */
+    static int distance(String a, String b) {
+        int infinity = a.length() + b.length();
+        int[][] d = new int[a.length() + 2][b.length() + 2];
+        d[0][0] = infinity;
+        for (int i = 0; i <= a.length(); i++) {
+            d[i + 1][0] = infinity;
+            d[i + 1][1] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j + 1] = infinity;
+            d[1][j + 1] = j;
+        }
+
+        // row of the last occurrence in a of every character seen so far
+        Map<Character, Integer> lastRow = new HashMap<>();
+        for (int i = 1; i <= a.length(); i++) {
+            int lastMatchColumn = 0;
+            for (int j = 1; j <= b.length(); j++) {
+                int k = lastRow.getOrDefault(b.charAt(j - 1), 0);
+                int l = lastMatchColumn;
+                int cost = 1;
+                if (a.charAt(i - 1) == b.charAt(j - 1)) {
+                    cost = 0;
+                    lastMatchColumn = j;
+                }
+                d[i + 1][j + 1] = Math.min(Math.min(d[i][j] + cost, d[i + 1][j] + 1),
+                        Math.min(d[i][j + 1] + 1, d[k][l] + (i - k - 1) + 1 + (j - l - 1)));
+            }
+            lastRow.put(a.charAt(i - 1), i);
+        }
+        return d[a.length() + 1][b.length() + 1];
+    }
+}
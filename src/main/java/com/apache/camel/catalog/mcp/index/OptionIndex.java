@@ -0,0 +1,96 @@
+package com.apache.camel.catalog.mcp.index;
+
+import org.apache.camel.tooling.model.BaseOptionModel;
+import org.apache.camel.tooling.model.ComponentModel;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The component and endpoint options of one component, keyed by name.
+ * <p>
+ * Names are looked up as written in the catalog ({@code bridgeErrorHandler}), and then case-insensitively and without
+ * dashes, so that the property form ({@code bridge-error-handler}) finds the option too.
+ */
+public final class OptionIndex {
+
+    private final Map<String, ComponentModel.ComponentOptionModel> componentOptions;
+    private final Map<String, ComponentModel.EndpointOptionModel> endpointOptions;
+    private final Map<String, String> normalizedNames;
+    private volatile NameMatcher matcher;
+
+    private OptionIndex(Map<String, ComponentModel.ComponentOptionModel> componentOptions,
+                        Map<String, ComponentModel.EndpointOptionModel> endpointOptions,
+                        Map<String, String> normalizedNames) {
+        this.componentOptions = componentOptions;
+        this.endpointOptions = endpointOptions;
+        this.normalizedNames = normalizedNames;
+    }
+
+    static OptionIndex of(ComponentModel model) {
+        Map<String, String> normalizedNames = new HashMap<>();
+        return new OptionIndex(byName(model.getComponentOptions(), normalizedNames),
+                byName(model.getEndpointOptions(), normalizedNames), normalizedNames);
+    }
+
+    private static <O extends BaseOptionModel> Map<String, O> byName(List<O> options, Map<String, String> normalizedNames) {
+        Map<String, O> byName = new HashMap<>();
+        if (options != null) {
+            for (O option : options) {
+                byName.putIfAbsent(option.getName(), option);
+                normalizedNames.putIfAbsent(normalize(option.getName()), option.getName());
+            }
+        }
+        return byName;
+    }
+
+    /**
+     * The component option of that name, or {@code null}.
+     */
+    public ComponentModel.ComponentOptionModel componentOption(String name) {
+        return lookup(componentOptions, name);
+    }
+
+    /**
+     * The endpoint option of that name, or {@code null}.
+     */
+    public ComponentModel.EndpointOptionModel endpointOption(String name) {
+        return lookup(endpointOptions, name);
+    }
+
+    private <O> O lookup(Map<String, O> options, String name) {
+        if (name == null) {
+            return null;
+        }
+        O option = options.get(name);
+        if (option == null) {
+            String canonical = normalizedNames.get(normalize(name));
+            option = canonical != null ? options.get(canonical) : null;
+        }
+        return option;
+    }
+
+    /**
+     * The names of the options closest to an unknown name, closest first.
+     */
+    public List<String> closest(String name, int limit) {
+        NameMatcher result = matcher;
+        if (result == null) {
+            result = NameMatcher.of(normalizedNames.keySet());
+            matcher = result;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (NameMatcher.Match match : result.closest(normalize(name), limit)) {
+            names.add(normalizedNames.get(match.name()));
+        }
+        return List.copyOf(names);
+    }
+
+    private static String normalize(String name) {
+        return name.replace("-", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,271 @@
+package com.apache.camel.catalog.mcp.index;
+
+import io.quarkus.logging.Log;
+import org.apache.camel.tooling.model.BaseModel;
+import org.apache.camel.tooling.model.BaseOptionModel;
+import org.apache.camel.tooling.model.ComponentModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Inverted full-text index over the components, data formats, languages, EIPs and transformers of a
+ * {@link CatalogIndex}.
+ * <p>
+ * Names, titles, labels, descriptions and option names and descriptions are tokenized (camelCase and dashed words are
+ * also split into their parts) and weighted per field. Queries are scored with BM25, every query term of at least
+ * {@value #MIN_PREFIX_LENGTH} characters also matching the indexed terms it is a prefix of, and only the top results
+ * are materialized. A query term scores a document by its best matching term, so that a document with many terms
+ * sharing the prefix does not outrank one matching the query term exactly.
+ */
+public final class SearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float PREFIX_PENALTY = 0.7f;
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    private static final float NAME_WEIGHT = 4f;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float LABEL_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float OPTION_NAME_WEIGHT = 0.75f;
+    private static final float OPTION_DESCRIPTION_WEIGHT = 0.25f;
+
+    private static final int MAX_MATCHING_OPTIONS = 5;
+
+    /**
+     * A search hit. {@code matchingOptions} lists the options whose name or description contains a query term.
+     */
+    public record Result(String kind, String name, String title, String description, float score,
+                         List<String> matchingOptions) {
+    }
+
+    private record Document(String kind, BaseModel<?> model, float length, List<OptionTerms> options) {
+    }
+
+    private record OptionTerms(String name, Set<String> terms) {
+    }
+
+    private record Postings(int[] documents, float[] frequencies) {
+    }
+
+    private final List<Document> documents;
+    private final Map<String, Postings> postings;
+    private final String[] terms;
+    private final float averageLength;
+
+    private SearchIndex(List<Document> documents, Map<String, Postings> postings, float averageLength) {
+        this.documents = documents;
+        this.postings = postings;
+        this.terms = postings.keySet().toArray(String[]::new);
+        Arrays.sort(this.terms);
+        this.averageLength = averageLength;
+    }
+
+    public static SearchIndex build(CatalogIndex catalogIndex) {
+        long start = System.currentTimeMillis();
+
+        List<Document> documents = new ArrayList<>();
+        Map<String, Map<Integer, Float>> frequencies = new HashMap<>();
+        float totalLength = 0;
+
+        totalLength += add("component", catalogIndex.components().models(), documents, frequencies);
+        totalLength += add("dataformat", catalogIndex.dataFormats().models(), documents, frequencies);
+        totalLength += add("language", catalogIndex.languages().models(), documents, frequencies);
+        totalLength += add("eip", catalogIndex.models().models(), documents, frequencies);
+        totalLength += add("transformer", catalogIndex.transformers().models(), documents, frequencies);
+
+        Map<String, Postings> postings = new HashMap<>(frequencies.size() * 2);
+        frequencies.forEach((term, byDocument) -> {
+            int[] ids = new int[byDocument.size()];
+            float[] tfs = new float[byDocument.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Float> entry : byDocument.entrySet()) {
+                ids[i] = entry.getKey();
+                tfs[i++] = entry.getValue();
+            }
+            postings.put(term, new Postings(ids, tfs));
+        });
+
+        SearchIndex index = new SearchIndex(List.copyOf(documents), postings,
+                documents.isEmpty() ? 1 : totalLength / documents.size());
+        Log.infof("Catalog search index built in %d ms (%d documents, %d terms)",
+                System.currentTimeMillis() - start, documents.size(), postings.size());
+        return index;
+    }
+
+    private static float add(String kind, Collection<? extends BaseModel<?>> models, List<Document> documents,
+                             Map<String, Map<Integer, Float>> frequencies) {
+        float totalLength = 0;
+        for (BaseModel<?> model : models) {
+            int id = documents.size();
+            Map<String, Float> tf = new HashMap<>();
+            float length = 0;
+
+            length += addField(tf, model.getName(), NAME_WEIGHT);
+            length += addField(tf, model.getTitle(), TITLE_WEIGHT);
+            length += addField(tf, model.getLabel(), LABEL_WEIGHT);
+            length += addField(tf, model.getDescription(), DESCRIPTION_WEIGHT);
+            List<OptionTerms> optionTerms = new ArrayList<>();
+            for (BaseOptionModel option : options(model)) {
+                List<String> nameTokens = tokenize(option.getName());
+                List<String> descriptionTokens = tokenize(option.getDescription());
+                length += addTokens(tf, nameTokens, OPTION_NAME_WEIGHT);
+                length += addTokens(tf, descriptionTokens, OPTION_DESCRIPTION_WEIGHT);
+
+                Set<String> terms = new LinkedHashSet<>(nameTokens);
+                terms.addAll(descriptionTokens);
+                optionTerms.add(new OptionTerms(option.getName(), Set.copyOf(terms)));
+            }
+
+            tf.forEach((term, frequency) -> frequencies.computeIfAbsent(term, t -> new HashMap<>()).put(id, frequency));
+            documents.add(new Document(kind, model, length, List.copyOf(optionTerms)));
+            totalLength += length;
+        }
+        return totalLength;
+    }
+
+    private static float addField(Map<String, Float> tf, String text, float weight) {
+        return addTokens(tf, tokenize(text), weight);
+    }
+
+    private static float addTokens(Map<String, Float> tf, List<String> tokens, float weight) {
+        for (String token : tokens) {
+            tf.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private static List<BaseOptionModel> options(BaseModel<?> model) {
+        List<BaseOptionModel> options = new ArrayList<>(model.getOptions());
+        if (model instanceof ComponentModel componentModel) {
+            options.addAll(componentModel.getEndpointOptions());
+        }
+        return options;
+    }
+
+    /**
+     * Lower-cases and splits text on non-alphanumeric characters. camelCase words additionally yield their parts,
+     * so that {@code groupId} matches both {@code groupid} and {@code group}.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String word : text.split("[^\\p{Alnum}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            tokens.add(word.toLowerCase(Locale.ROOT));
+            String[] parts = word.split("(?<=\\p{Ll})(?=\\p{Lu})|(?<=\\p{L})(?=\\p{N})");
+            if (parts.length > 1) {
+                for (String part : parts) {
+                    tokens.add(part.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the {@code limit} best matches for the query, optionally restricted to the given kinds
+     * ({@code component}, {@code dataformat}, {@code language}, {@code eip}, {@code transformer}).
+     */
+    public List<Result> search(String query, Set<String> kinds, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        float[] scores = new float[documents.size()];
+        float[] termScores = new float[documents.size()];
+        for (String queryTerm : queryTerms) {
+            int from = Arrays.binarySearch(terms, queryTerm);
+            if (from < 0) {
+                if (queryTerm.length() < MIN_PREFIX_LENGTH) {
+                    continue;
+                }
+                from = -from - 1;
+            }
+            int to = queryTerm.length() < MIN_PREFIX_LENGTH ? from + 1 : terms.length;
+            Arrays.fill(termScores, 0);
+            for (int i = from; i < to && terms[i].startsWith(queryTerm); i++) {
+                float boost = terms[i].length() == queryTerm.length() ? 1f : PREFIX_PENALTY;
+                score(postings.get(terms[i]), boost, termScores);
+            }
+            for (int id = 0; id < scores.length; id++) {
+                scores[id] += termScores[id];
+            }
+        }
+
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(id -> scores[id]));
+        for (int id = 0; id < scores.length; id++) {
+            if (scores[id] > 0 && (kinds == null || kinds.isEmpty() || kinds.contains(documents.get(id).kind()))) {
+                top.add(id);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<Result> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            int id = top.poll();
+            Document document = documents.get(id);
+            BaseModel<?> model = document.model();
+            results.add(new Result(document.kind(), model.getName(), model.getTitle(), model.getDescription(),
+                    Math.round(scores[id] * 100) / 100f, matchingOptions(document, queryTerms)));
+        }
+        results.sort(Comparator.comparingDouble(Result::score).reversed());
+        return results;
+    }
+
+    /**
+     * Raises the scores of the documents of an indexed term to its BM25 score where that is higher.
+     */
+    private void score(Postings termPostings, float boost, float[] scores) {
+        int documentFrequency = termPostings.documents().length;
+        float idf = (float) Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        for (int i = 0; i < termPostings.documents().length; i++) {
+            int id = termPostings.documents()[i];
+            float tf = termPostings.frequencies()[i];
+            float norm = K1 * (1 - B + B * documents.get(id).length() / averageLength);
+            scores[id] = Math.max(scores[id], boost * idf * tf * (K1 + 1) / (tf + norm));
+        }
+    }
+
+    private static List<String> matchingOptions(Document document, Set<String> queryTerms) {
+        List<String> matching = new ArrayList<>();
+        for (OptionTerms option : document.options()) {
+            boolean matches = queryTerms.stream()
+                    .anyMatch(queryTerm -> option.terms().stream().anyMatch(term -> matches(term, queryTerm)));
+            if (matches && !matching.contains(option.name())) {
+                matching.add(option.name());
+                if (matching.size() == MAX_MATCHING_OPTIONS) {
+                    break;
+                }
+            }
+        }
+        return matching;
+    }
+
+    private static boolean matches(String term, String queryTerm) {
+        return queryTerm.length() < MIN_PREFIX_LENGTH ? term.equals(queryTerm) : term.startsWith(queryTerm);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+}
@@ -0,0 +1,80 @@
+package com.apache.camel.catalog.mcp.index;
+
+import org.apache.camel.catalog.JSonSchemaResolver;
+import org.apache.camel.tooling.model.Kind;
+
+/**
+ * {@link JSonSchemaResolver} serving component, data format, language, model and transformer schemas from a
+ * {@link CatalogSnapshot}, so the catalog itself (e.g. endpoint validation) no longer scans the classpath for them.
+ * Everything the snapshot does not hold is delegated to the catalog's original resolver.
+ */
+public class SnapshotJSonSchemaResolver implements JSonSchemaResolver {
+
+    private final CatalogSnapshot snapshot;
+    private final JSonSchemaResolver delegate;
+
+    public SnapshotJSonSchemaResolver(CatalogSnapshot snapshot, JSonSchemaResolver delegate) {
+        this.snapshot = snapshot;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void setClassLoader(ClassLoader classLoader) {
+        delegate.setClassLoader(classLoader);
+    }
+
+    @Override
+    public String getComponentJSonSchema(String name) {
+        String schema = snapshot.schema(Kind.component, name);
+        return schema != null ? schema : delegate.getComponentJSonSchema(name);
+    }
+
+    @Override
+    public String getDataFormatJSonSchema(String name) {
+        String schema = snapshot.schema(Kind.dataformat, name);
+        return schema != null ? schema : delegate.getDataFormatJSonSchema(name);
+    }
+
+    @Override
+    public String getLanguageJSonSchema(String name) {
+        String schema = snapshot.schema(Kind.language, name);
+        return schema != null ? schema : delegate.getLanguageJSonSchema(name);
+    }
+
+    @Override
+    public String getTransformerJSonSchema(String name) {
+        String schema = snapshot.schema(Kind.transformer, name);
+        return schema != null ? schema : delegate.getTransformerJSonSchema(name);
+    }
+
+    @Override
+    public String getModelJSonSchema(String name) {
+        String schema = snapshot.schema(Kind.model, name);
+        return schema != null ? schema : delegate.getModelJSonSchema(name);
+    }
+
+    @Override
+    public String getDevConsoleJSonSchema(String name) {
+        return delegate.getDevConsoleJSonSchema(name);
+    }
+
+    @Override
+    public String getOtherJSonSchema(String name) {
+        return delegate.getOtherJSonSchema(name);
+    }
+
+    @Override
+    public String getMainJsonSchema() {
+        return delegate.getMainJsonSchema();
+    }
+
+    @Override
+    public String getJBangJsonSchema() {
+        return delegate.getJBangJsonSchema();
+    }
+
+    @Override
+    public String getPojoBeanJSonSchema(String name) {
+        return delegate.getPojoBeanJSonSchema(name);
+    }
+}
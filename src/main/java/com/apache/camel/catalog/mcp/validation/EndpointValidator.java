@@ -0,0 +1,96 @@
+package com.apache.camel.catalog.mcp.validation;
+
+import io.quarkus.logging.Log;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.catalog.EndpointValidationResult;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates batches of endpoint URIs against the catalog on a bounded pool of worker threads.
+ * <p>
+ * Each distinct URI of a batch is validated once, duplicates share its result, and the component models the
+ * validation needs are cached by the catalog, so they are resolved once for the whole batch.
+ */
+@Singleton
+public class EndpointValidator {
+
+    /**
+     * Validation outcome of a single URI. {@code message} holds the error and warning summary, or the failure
+     * reason when the URI could not be validated at all.
+     */
+    public record Summary(String uri, boolean valid, int errors, int warnings, String message) {
+    }
+
+    private final CamelCatalog camelCatalog;
+    private final ExecutorService executor;
+
+    public EndpointValidator(CamelCatalog camelCatalog,
+                             @ConfigProperty(name = "endpoint.validation.parallelism", defaultValue = "0") int parallelism) {
+        this.camelCatalog = camelCatalog;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "endpoint-validation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Validates the given URIs against the bundled catalog and returns their summaries in input order.
+     */
+    public List<Summary> validate(List<String> uris) {
+        return validate(camelCatalog, uris);
+    }
+
+    /**
+     * Validates the given URIs against the given catalog and returns their summaries in input order.
+     */
+    public List<Summary> validate(CamelCatalog catalog, List<String> uris) {
+        Map<String, CompletableFuture<Summary>> pending = new LinkedHashMap<>();
+        for (String uri : uris) {
+            pending.computeIfAbsent(uri, u -> CompletableFuture.supplyAsync(() -> validate(catalog, u), executor));
+        }
+
+        List<Summary> summaries = new ArrayList<>(uris.size());
+        for (String uri : uris) {
+            summaries.add(pending.get(uri).join());
+        }
+        return summaries;
+    }
+
+    /**
+     * Validates a single URI, reporting unexpected failures in the summary instead of throwing.
+     */
+    public Summary validate(CamelCatalog catalog, String uri) {
+        if (uri == null || uri.isBlank()) {
+            return new Summary(uri, false, 1, 0, "Endpoint URI is required");
+        }
+        try {
+            EndpointValidationResult result = catalog.validateEndpointProperties(uri);
+            String message = result.hasErrors() || result.hasWarnings()
+                    ? result.summaryErrorMessage(false, false, true).strip()
+                    : null;
+            return new Summary(uri, !result.hasErrors(), result.getNumberOfErrors(), result.getNumberOfWarnings(), message);
+        } catch (Exception e) {
+            Log.debugf(e, "Error validating endpoint URI '%s'", uri);
+            return new Summary(uri, false, 1, 0, "Failed to validate endpoint URI: " + e.getMessage());
+        }
+    }
+}
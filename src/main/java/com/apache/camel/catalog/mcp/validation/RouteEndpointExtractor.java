@@ -0,0 +1,315 @@
+package com.apache.camel.catalog.mcp.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the {@code from}, {@code to} and {@code toD} endpoint URIs of a route file together with their line
+ * numbers, and optionally the EIPs it uses, without loading the whole file in memory.
+ * <p>
+ * YAML routes are read with a streaming YAML parser (both the {@code to: "uri"} shorthand and the {@code uri} /
+ * {@code parameters} form are supported), XML routes with a StAX reader, and Java DSL routes are scanned line by line
+ * for string literal arguments of {@code from(...)}, {@code to(...)} and {@code toD(...)}. The EIPs of a Java route
+ * are the methods chained on a {@code from(...)} call up to the end of its statement, so that calls with an EIP name
+ * elsewhere, such as {@code String.split}, are not taken for one.
+ */
+public final class RouteEndpointExtractor {
+
+    /**
+     * An endpoint found in a route file. {@code kind} is the DSL element it was declared with.
+     */
+    public record Endpoint(int line, String kind, String uri) {
+    }
+
+    /**
+     * Use of an EIP in a route file.
+     */
+    public record EipUsage(int line, String name) {
+    }
+
+    /**
+     * The endpoints and EIP uses of a route file, in file order.
+     */
+    public record Route(List<Endpoint> endpoints, List<EipUsage> eips) {
+    }
+
+    private static final Set<String> KINDS = Set.of("from", "to", "toD");
+
+    private static final Pattern JAVA_ENDPOINT = Pattern.compile("\\b(from|toD|to)\\s*\\(\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+    /**
+     * The tokens of a Java line that matter to follow a route chain: string and character literals (skipped),
+     * comments, statement ends, parentheses and method calls.
+     */
+    private static final Pattern JAVA_TOKEN = Pattern.compile(
+            "\"(?:[^\"\\\\]|\\\\.)*\"|'(?:[^'\\\\]|\\\\.)*'|//|[;()]|(?:\\.\\s*|\\b)(\\w+)\\s*\\(");
+
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+    private static final XMLInputFactory XML_FACTORY = createXmlInputFactory();
+
+    private RouteEndpointExtractor() {
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+
+    /**
+     * Returns whether the file extension is one of the supported route formats.
+     */
+    public static boolean isSupported(Path file) {
+        return format(file) != null;
+    }
+
+    /**
+     * Extracts the endpoints of the given route file, in file order.
+     *
+     * @throws IllegalArgumentException if the file is not a YAML, XML or Java file
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public static List<Endpoint> extract(Path file) throws IOException {
+        return scan(file, Set.of()).endpoints();
+    }
+
+    /**
+     * Extracts the endpoints of the given route file and the uses of the given EIPs: YAML keys, XML elements and
+     * Java DSL method calls named after one of them and chained on a {@code from(...)} route.
+     *
+     * @throws IllegalArgumentException if the file is not a YAML, XML or Java file
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public static Route scan(Path file, Set<String> eipNames) throws IOException {
+        String format = format(file);
+        if (format == null) {
+            throw new IllegalArgumentException("Unsupported route file type: " + file.getFileName()
+                    + ". Supported extensions are .yaml, .yml, .xml and .java");
+        }
+        Route route = new Route(new ArrayList<>(), new ArrayList<>());
+        switch (format) {
+            case "yaml" -> scanYaml(file, eipNames, route);
+            case "xml" -> scanXml(file, eipNames, route);
+            default -> scanJava(file, eipNames, route);
+        }
+        return route;
+    }
+
+    private static String format(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".yaml") || name.endsWith(".yml")) {
+            return "yaml";
+        }
+        if (name.endsWith(".xml")) {
+            return "xml";
+        }
+        if (name.endsWith(".java")) {
+            return "java";
+        }
+        return null;
+    }
+
+    private static void scanYaml(Path file, Set<String> eipNames, Route route) throws IOException {
+        try (JsonParser parser = YAML_FACTORY.createParser(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            while (parser.nextToken() != null) {
+                scanYamlToken(parser, eipNames, route);
+            }
+        }
+    }
+
+    /**
+     * Records the field the parser is on if it is an EIP or an endpoint. An endpoint field is consumed with its whole
+     * value, so that the parser is left on the last token of the value.
+     */
+    private static void scanYamlToken(JsonParser parser, Set<String> eipNames, Route route) throws IOException {
+        if (parser.currentToken() != JsonToken.FIELD_NAME) {
+            return;
+        }
+        String name = parser.currentName();
+        if (!KINDS.contains(name)) {
+            if (eipNames.contains(name)) {
+                route.eips().add(new EipUsage(parser.currentLocation().getLineNr(), name));
+            }
+            return;
+        }
+        int line = parser.currentLocation().getLineNr();
+
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.VALUE_STRING) {
+            route.endpoints().add(new Endpoint(line, name, parser.getText()));
+        } else if (token == JsonToken.START_OBJECT) {
+            readYamlEndpoint(parser, name, line, eipNames, route);
+        } else {
+            // a sequence is not an endpoint, and left open it would close the enclosing steps early
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads the {@code uri} and {@code parameters} of an endpoint declared as a mapping, up to the end of the mapping.
+     * The endpoints and EIPs of a nested {@code steps} list (as found under {@code from}) are recorded after the
+     * endpoint itself, wherever the {@code uri} appears in the mapping.
+     */
+    private static void readYamlEndpoint(JsonParser parser, String kind, int line, Set<String> eipNames, Route route)
+            throws IOException {
+        int position = route.endpoints().size();
+        String uri = null;
+        StringJoiner parameters = new StringJoiner("&");
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "uri" -> {
+                    if (value == JsonToken.VALUE_STRING) {
+                        uri = parser.getText();
+                        line = parser.currentLocation().getLineNr();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "parameters" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String name = parser.currentName();
+                            if (parser.nextToken().isScalarValue()) {
+                                parameters.add(name + "=" + parser.getText());
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "steps" -> scanYamlValue(parser, eipNames, route);
+                default -> parser.skipChildren();
+            }
+        }
+        if (uri == null) {
+            return;
+        }
+        if (parameters.length() > 0) {
+            uri = uri + (uri.contains("?") ? "&" : "?") + parameters;
+        }
+        route.endpoints().add(position, new Endpoint(line, kind, uri));
+    }
+
+    /**
+     * Scans the value the parser is on, up to its last token, for endpoints and EIPs.
+     */
+    private static void scanYamlValue(JsonParser parser, Set<String> eipNames, Route route) throws IOException {
+        if (!parser.currentToken().isStructStart()) {
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return;
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            } else {
+                scanYamlToken(parser, eipNames, route);
+            }
+        }
+    }
+
+    private static void scanXml(Path file, Set<String> eipNames, Route route) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    String name = reader.getLocalName();
+                    if (KINDS.contains(name)) {
+                        String uri = reader.getAttributeValue(null, "uri");
+                        if (uri != null) {
+                            route.endpoints().add(new Endpoint(reader.getLocation().getLineNumber(), name, uri));
+                        }
+                    } else if (eipNames.contains(name)) {
+                        route.eips().add(new EipUsage(reader.getLocation().getLineNumber(), name));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse XML route file: " + e.getMessage(), e);
+        }
+    }
+
+    private static void scanJava(Path file, Set<String> eipNames, Route route) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            // whether the scan is in a statement started by from(...), and its parenthesis depth there
+            boolean inRoute = false;
+            int depth = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                Matcher matcher = JAVA_ENDPOINT.matcher(line);
+                while (matcher.find()) {
+                    route.endpoints().add(new Endpoint(lineNumber, matcher.group(1), unescape(matcher.group(2))));
+                }
+                if (eipNames.isEmpty()) {
+                    continue;
+                }
+                Matcher token = JAVA_TOKEN.matcher(line);
+                while (token.find()) {
+                    String text = token.group();
+                    String call = token.group(1);
+                    if (text.equals("//")) {
+                        break;
+                    } else if ("from".equals(call)) {
+                        inRoute = true;
+                        depth = 1;
+                    } else if (!inRoute || text.startsWith("\"") || text.startsWith("'")) {
+                        continue;
+                    } else if (call != null) {
+                        // only the calls chained on the route itself, not those in its arguments or lambdas
+                        if (depth == 0 && text.startsWith(".") && eipNames.contains(call) && !KINDS.contains(call)) {
+                            route.eips().add(new EipUsage(lineNumber, call));
+                        }
+                        depth++;
+                    } else if (text.equals("(")) {
+                        depth++;
+                    } else if (text.equals(")")) {
+                        depth = Math.max(0, depth - 1);
+                    } else if (depth == 0) {
+                        inRoute = false;
+                    }
+                }
+            }
+        }
+    }
+
+    private static String unescape(String literal) {
+        return literal.indexOf('\\') < 0 ? literal : literal.replaceAll("\\\\(.)", "$1");
+    }
+}
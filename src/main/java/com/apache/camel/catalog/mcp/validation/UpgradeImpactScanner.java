@@ -0,0 +1,251 @@
+package com.apache.camel.catalog.mcp.validation;
+
+import com.apache.camel.catalog.mcp.index.CatalogDiffer;
+import com.apache.camel.catalog.mcp.index.CatalogPool;
+import io.quarkus.logging.Log;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.apache.camel.tooling.model.EipModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Finds the endpoint URIs and EIP uses of a project that break or are deprecated in a target Camel version.
+ * <p>
+ * The project tree is walked once, skipping build output and VCS directories, and every route file (YAML, XML or
+ * Java) is scanned on a bounded pool of worker threads; the walk blocks while the pool's queue is full, so only a
+ * few files are in flight at any time and file contents are streamed, never held. Identical URIs are validated once
+ * per scan, and the findings of each file are handed to a listener as soon as the file is done.
+ */
+@Singleton
+public class UpgradeImpactScanner {
+
+    public record Finding(int line, String type, String subject, String severity, String message) {
+    }
+
+    public record FileImpact(String path, List<Finding> findings) {
+    }
+
+    public record ScanResult(String root, String fromVersion, String targetVersion, int filesScanned, int breaking,
+                             int warnings, List<FileImpact> files) {
+    }
+
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of(".git", ".svn", ".idea", ".mvn", "target", "build",
+            "node_modules", ".gradle");
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final EndpointValidator endpointValidator;
+    private final CatalogDiffer catalogDiffer;
+    private final ExecutorService executor;
+
+    public UpgradeImpactScanner(EndpointValidator endpointValidator, CatalogDiffer catalogDiffer,
+                                @ConfigProperty(name = "upgrade.scan.parallelism", defaultValue = "0") int parallelism) {
+        this.endpointValidator = endpointValidator;
+        this.catalogDiffer = catalogDiffer;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "upgrade-scan-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Scans the route files under {@code root} for usages broken or deprecated by the upgrade from {@code from} to
+     * {@code target}. {@code listener} is called, possibly concurrently, for every file with findings.
+     */
+    public ScanResult scan(Path root, CatalogPool.VersionedCatalog from, CatalogPool.VersionedCatalog target,
+                           Consumer<FileImpact> listener) throws IOException {
+        Map<String, String> renamedEips = new HashMap<>();
+        if (!from.version().equals(target.version())) {
+            for (CatalogDiffer.KindDiff kind : catalogDiffer.diff(from.version(), target.version(), List.of("eip"), null).kinds()) {
+                kind.renamed().forEach(rename -> renamedEips.put(rename.from(), rename.to()));
+            }
+        }
+        Set<String> eipNames = new HashSet<>(from.index().models().names());
+        eipNames.addAll(target.index().models().names());
+
+        Scan scan = new Scan(target, eipNames, renamedEips, listener);
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return !dir.equals(root) && SKIPPED_DIRECTORIES.contains(dir.getFileName().toString())
+                        ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && attrs.size() <= MAX_FILE_SIZE && RouteEndpointExtractor.isSupported(file)) {
+                    scan.submit(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                Log.debugf("Skipping unreadable path %s: %s", file, e.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        scan.await();
+
+        List<FileImpact> files = new ArrayList<>(scan.impacts);
+        files.sort(Comparator.comparing(FileImpact::path));
+        int breaking = 0;
+        int warnings = 0;
+        for (FileImpact impact : files) {
+            for (Finding finding : impact.findings()) {
+                if ("breaking".equals(finding.severity())) {
+                    breaking++;
+                } else {
+                    warnings++;
+                }
+            }
+        }
+        return new ScanResult(root.toString(), from.version(), target.version(), scan.scanned.get(), breaking, warnings, files);
+    }
+
+    private static String deprecation(String subject, String since, String note) {
+        return subject + " is deprecated" + (since != null ? " since " + since : "")
+                + (note != null && !note.isBlank() ? ": " + note : "");
+    }
+
+    /**
+     * State of one scan: the files in flight, the validation results shared between its files and its findings.
+     */
+    private final class Scan {
+
+        private final CatalogPool.VersionedCatalog target;
+        private final Set<String> eipNames;
+        private final Map<String, String> renamedEips;
+        private final Consumer<FileImpact> listener;
+
+        private final Map<String, EndpointValidator.Summary> validations = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<FileImpact> impacts = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger scanned = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Scan(CatalogPool.VersionedCatalog target, Set<String> eipNames, Map<String, String> renamedEips,
+                     Consumer<FileImpact> listener) {
+            this.target = target;
+            this.eipNames = eipNames;
+            this.renamedEips = renamedEips;
+            this.listener = listener;
+        }
+
+        void submit(Path file) {
+            pending.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    scanFile(file);
+                } finally {
+                    if (pending.decrementAndGet() == 0) {
+                        synchronized (this) {
+                            notifyAll();
+                        }
+                    }
+                }
+            });
+        }
+
+        synchronized void await() {
+            while (pending.get() > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedIOException(new IOException("Scan interrupted"));
+                }
+            }
+        }
+
+        private void scanFile(Path file) {
+            RouteEndpointExtractor.Route route;
+            try {
+                route = RouteEndpointExtractor.scan(file, eipNames);
+            } catch (IOException | RuntimeException e) {
+                Log.debugf("Skipping %s: %s", file, e.getMessage());
+                return;
+            } finally {
+                scanned.incrementAndGet();
+            }
+
+            List<Finding> findings = new ArrayList<>();
+            for (RouteEndpointExtractor.Endpoint endpoint : route.endpoints()) {
+                checkEndpoint(endpoint, findings);
+            }
+            for (RouteEndpointExtractor.EipUsage eip : route.eips()) {
+                checkEip(eip, findings);
+            }
+            if (!findings.isEmpty()) {
+                findings.sort(Comparator.comparingInt(Finding::line));
+                FileImpact impact = new FileImpact(file.toString(), findings);
+                impacts.add(impact);
+                listener.accept(impact);
+            }
+        }
+
+        private void checkEndpoint(RouteEndpointExtractor.Endpoint endpoint, List<Finding> findings) {
+            EndpointValidator.Summary summary = validations.computeIfAbsent(endpoint.uri(),
+                    uri -> endpointValidator.validate(target.catalog(), uri));
+            if (!summary.valid()) {
+                findings.add(new Finding(endpoint.line(), "endpoint", endpoint.uri(), "breaking", summary.message()));
+            } else if (summary.warnings() > 0) {
+                findings.add(new Finding(endpoint.line(), "endpoint", endpoint.uri(), "warning", summary.message()));
+            }
+
+            int colon = endpoint.uri().indexOf(':');
+            ComponentModel component = colon > 0 ? target.index().components().model(endpoint.uri().substring(0, colon)) : null;
+            if (component != null && component.isDeprecated()) {
+                findings.add(new Finding(endpoint.line(), "component", component.getName(), "warning",
+                        deprecation("Component " + component.getName(), component.getDeprecatedSince(), component.getDeprecationNote())));
+            }
+        }
+
+        private void checkEip(RouteEndpointExtractor.EipUsage eip, List<Finding> findings) {
+            EipModel model = target.index().models().model(eip.name());
+            if (model == null) {
+                String renamed = renamedEips.get(eip.name());
+                findings.add(new Finding(eip.line(), "eip", eip.name(), "breaking",
+                        "EIP " + eip.name() + " does not exist in Camel " + target.version()
+                                + (renamed != null ? ", it was renamed to " + renamed : "")));
+            } else if (model.isDeprecated()) {
+                findings.add(new Finding(eip.line(), "eip", eip.name(), "warning",
+                        deprecation("EIP " + eip.name(), model.getDeprecatedSince(), model.getDeprecationNote())));
+            }
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.apache.camel.catalog.mcp.versions;
+
+import io.quarkus.logging.Log;
+import jakarta.inject.Singleton;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.ReleaseModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Which Camel and Quarkus versions every Camel Quarkus release is built on.
+ * <p>
+ * The catalog lists the Camel Quarkus releases but not the versions they depend on; those are read from the
+ * {@code camel.version} and {@code quarkus.version} properties of each release's root pom, with their references to
+ * other properties resolved, through the {@link ParentPomStore}, which keeps them on disk for good once fetched.
+ * <p>
+ * Lookups never wait for the network. The matrix is first joined from the poms already cached, then completed in the
+ * background, starting with the first lookup and at most every {@value #RETRY_MINUTES} minutes while some poms are
+ * missing, fetching at most {@code compatible-versions.fetch.parallelism} of them at a time; nothing is fetched by a
+ * server that is never asked for compatible versions. A lookup answers from the matrix joined so far
+ * and lists the releases still pending. The matrix is indexed by full, {@code major.minor} and major version of each
+ * of the three projects, so a lookup is a hash map access.
+ */
+@Singleton
+public class CompatibilityMatrix {
+
+    /**
+     * A Camel Quarkus release with the Camel and Quarkus versions it is built on.
+     */
+    public record Row(String camelQuarkusVersion, String camelVersion, String quarkusVersion, String date, String eol,
+                      boolean lts, String jdk, boolean camelLts) {
+    }
+
+    /**
+     * The matching releases, the Camel Quarkus releases whose pom has not been read yet, and those whose pom was read
+     * but whose Camel version could not be resolved from it. The latter two may or may not match.
+     */
+    public record Lookup(List<Row> rows, List<String> pendingCamelQuarkusVersions,
+                         List<String> unresolvedCamelQuarkusVersions) {
+    }
+
+    static final int RETRY_MINUTES = 10;
+
+    private static final Pattern PROPERTY_REFERENCE = Pattern.compile("\\$\\{([^}]+)}");
+    private static final int MAX_REFERENCE_DEPTH = 8;
+
+    private record Matrix(Map<String, List<Row>> byCamelQuarkus, Map<String, List<Row>> byCamel,
+                          Map<String, List<Row>> byQuarkus, List<String> pending, List<String> unresolved) {
+    }
+
+    private final CamelCatalog camelCatalog;
+    private final ParentPomStore parentPomStore;
+    private final int parallelism;
+    private final Map<String, Map<String, String>> poms = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private List<ReleaseModel> camelQuarkusReleases;
+    private Map<String, ReleaseModel> camelReleases;
+    private volatile Matrix matrix;
+    private volatile Instant lastRefresh = Instant.MIN;
+
+    public CompatibilityMatrix(CamelCatalog camelCatalog, ParentPomStore parentPomStore,
+                               @ConfigProperty(name = "compatible-versions.fetch.parallelism", defaultValue = "4") int parallelism) {
+        this.camelCatalog = camelCatalog;
+        this.parentPomStore = parentPomStore;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns the Camel Quarkus releases matching every given version, latest first. A version matches on as many
+     * parts as it has: {@code 3.27} matches {@code 3.27.0} and {@code 3.27.1}, {@code 4} every 4.x version.
+     *
+     * @throws IllegalArgumentException if no version is given
+     */
+    public Lookup lookup(String camelVersion, String camelQuarkusVersion, String quarkusVersion) {
+        if (isBlank(camelVersion) && isBlank(camelQuarkusVersion) && isBlank(quarkusVersion)) {
+            throw new IllegalArgumentException("At least one of the Camel, Camel Quarkus or Quarkus versions is required");
+        }
+
+        Matrix matrix = matrix();
+        List<Row> rows = null;
+        rows = narrow(rows, matrix.byCamel(), camelVersion);
+        rows = narrow(rows, matrix.byCamelQuarkus(), camelQuarkusVersion);
+        rows = narrow(rows, matrix.byQuarkus(), quarkusVersion);
+        return new Lookup(rows, matrix.pending(), matrix.unresolved());
+    }
+
+    private static List<Row> narrow(List<Row> rows, Map<String, List<Row>> index, String version) {
+        if (isBlank(version)) {
+            return rows;
+        }
+        List<Row> matches = index.getOrDefault(key(version), List.of());
+        if (rows == null) {
+            return matches;
+        }
+        Set<Row> selected = new LinkedHashSet<>(rows);
+        selected.retainAll(Set.copyOf(matches));
+        return List.copyOf(selected);
+    }
+
+    /**
+     * The lookup key of a version given by a user: the version without a trailing {@code .x}, so that {@code 3.27.x}
+     * and {@code 3.27} both look up the 3.27 line.
+     */
+    private static String key(String version) {
+        String key = version.strip();
+        while (key.endsWith(".x") || key.endsWith(".X")) {
+            key = key.substring(0, key.length() - 2);
+        }
+        return key;
+    }
+
+    /**
+     * The matrix joined so far, from the cached poms when the background refresh has not published one yet.
+     */
+    private Matrix matrix() {
+        Matrix current = matrix;
+        if (current == null) {
+            loadCached();
+            current = matrix;
+        }
+        if (!current.pending().isEmpty()
+                && lastRefresh.plus(Duration.ofMinutes(RETRY_MINUTES)).isBefore(Instant.now())) {
+            refreshInBackground();
+        }
+        return current;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        lastRefresh = Instant.now();
+        Thread.ofVirtual().name("compatibility-matrix").start(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                Log.warnf("Failed to complete the compatibility matrix: %s", e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    /**
+     * Fetches the poms missing from the matrix, a bounded number at a time, and publishes the completed matrix.
+     */
+    private void refresh() {
+        long start = System.currentTimeMillis();
+        List<String> missing = loadCached().pending();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String release : missing) {
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        poms.put(release, parentPomStore.properties(ParentPomStore.Project.CAMEL_QUARKUS, release));
+                    } catch (IOException | IllegalArgumentException e) {
+                        Log.debugf("No pom for Camel Quarkus %s: %s", release, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        Matrix published = publish();
+        Log.infof("Fetched the poms of %d Camel Quarkus releases in %d ms (%d still pending)",
+                missing.size() - published.pending().size(), System.currentTimeMillis() - start, published.pending().size());
+    }
+
+    /**
+     * Adds the poms cached in memory or on disk to the matrix, without going to the network.
+     */
+    private Matrix loadCached() {
+        for (ReleaseModel release : camelQuarkusReleases()) {
+            if (!poms.containsKey(release.getVersion())) {
+                try {
+                    Map<String, String> properties = parentPomStore.cachedProperties(ParentPomStore.Project.CAMEL_QUARKUS, release.getVersion());
+                    if (properties != null) {
+                        poms.put(release.getVersion(), properties);
+                    }
+                } catch (IllegalArgumentException e) {
+                    Log.debugf("Skipping Camel Quarkus release %s: %s", release.getVersion(), e.getMessage());
+                }
+            }
+        }
+        return publish();
+    }
+
+    /**
+     * Joins the poms read so far with the releases of the catalog. The poms only ever get added, so the matrix
+     * published last is the most complete one.
+     */
+    private synchronized Matrix publish() {
+        List<Row> rows = new ArrayList<>();
+        List<String> pending = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+        for (ReleaseModel release : camelQuarkusReleases()) {
+            Map<String, String> properties = poms.get(release.getVersion());
+            if (properties == null) {
+                pending.add(release.getVersion());
+                continue;
+            }
+            String camelVersion = resolve(properties.get("camel.version"), properties);
+            if (camelVersion == null) {
+                unresolved.add(release.getVersion());
+                continue;
+            }
+            ReleaseModel camelRelease = camelReleases.get(camelVersion);
+            rows.add(new Row(release.getVersion(), camelVersion, resolve(properties.get("quarkus.version"), properties),
+                    release.getDate(), release.getEol(), "lts".equalsIgnoreCase(release.getKind()), release.getJdk(),
+                    camelRelease != null && "lts".equalsIgnoreCase(camelRelease.getKind())));
+        }
+
+        Matrix joined = new Matrix(index(rows, Row::camelQuarkusVersion), index(rows, Row::camelVersion),
+                index(rows, Row::quarkusVersion), List.copyOf(pending), List.copyOf(unresolved));
+        matrix = joined;
+        return joined;
+    }
+
+    /**
+     * The Camel Quarkus releases of the catalog, latest first, and the Camel releases by version, read once.
+     */
+    private synchronized List<ReleaseModel> camelQuarkusReleases() {
+        if (camelQuarkusReleases == null) {
+            Map<String, ReleaseModel> byVersion = new HashMap<>();
+            for (ReleaseModel release : camelCatalog.camelReleases()) {
+                byVersion.put(release.getVersion(), release);
+            }
+            camelReleases = byVersion;
+            camelQuarkusReleases = ReleaseIndex.of(camelCatalog.camelQuarkusReleases())
+                    .query(false, null, null, null, 0, null).releases();
+        }
+        return camelQuarkusReleases;
+    }
+
+    /**
+     * Resolves the {@code ${property}} references of a pom property value against the other properties of the pom,
+     * such as {@code ${camel.major.minor}.0} for {@code camel.version}. Returns {@code null} if a reference cannot be
+     * resolved.
+     */
+    static String resolve(String value, Map<String, String> properties) {
+        String resolved = value;
+        for (int depth = 0; resolved != null && resolved.contains("${"); depth++) {
+            if (depth == MAX_REFERENCE_DEPTH) {
+                return null;
+            }
+            Matcher reference = PROPERTY_REFERENCE.matcher(resolved);
+            StringBuilder replaced = new StringBuilder();
+            while (reference.find()) {
+                String property = properties.get(reference.group(1));
+                if (property == null) {
+                    return null;
+                }
+                reference.appendReplacement(replaced, Matcher.quoteReplacement(property));
+            }
+            reference.appendTail(replaced);
+            resolved = replaced.toString();
+        }
+        return resolved;
+    }
+
+    /**
+     * Indexes the rows, latest first, under the full, {@code major.minor} and major version of one of their columns.
+     */
+    private static Map<String, List<Row>> index(List<Row> rows, Function<Row, String> column) {
+        Map<String, List<Row>> index = new HashMap<>();
+        for (Row row : rows) {
+            String value = column.apply(row);
+            if (value == null) {
+                continue;
+            }
+            Set<String> keys = new LinkedHashSet<>();
+            keys.add(value);
+            try {
+                Version version = Version.parse(value);
+                keys.add(version.major() + "." + version.minor() + "." + version.patch());
+                keys.add(version.major() + "." + version.minor());
+                keys.add(String.valueOf(version.major()));
+            } catch (IllegalArgumentException e) {
+                // only looked up by its full value
+            }
+            for (String key : keys) {
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
+        }
+        index.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        return index;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,276 @@
+package com.apache.camel.catalog.mcp.versions;
+
+import com.apache.camel.catalog.mcp.file.FSUtil;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.core.json.JsonObject;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.ReleaseModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code <properties>} of the Apache Camel parent pom of a release, which hold the versions of the libraries the
+ * release was built with, and likewise of the Camel Quarkus root pom, which holds the Camel and Quarkus versions of a
+ * Camel Quarkus release.
+ * <p>
+ * The pom is fetched from GitHub with a shared HTTP/2 client and streamed through StAX, stopping at the end of its
+ * first {@code <properties>} block. Results are kept in memory and under {@code compatible-versions.cache.dir}:
+ * forever for releases, as their tags never move, and for {@code compatible-versions.main.ttl} for {@code main}, whose
+ * stale copy is still served when GitHub cannot be reached. The latest releases of the catalog can be fetched in the
+ * background at startup, so that they are available offline.
+ */
+@Singleton
+public class ParentPomStore {
+
+    public static final String MAIN = "main";
+
+    /**
+     * The projects whose poms are read, with the location of their poms on GitHub.
+     */
+    public enum Project {
+        CAMEL("Camel", "", "https://raw.githubusercontent.com/apache/camel/main/parent/pom.xml",
+                "https://raw.githubusercontent.com/apache/camel/refs/tags/camel-%s/parent/pom.xml"),
+        CAMEL_QUARKUS("Camel Quarkus", "camel-quarkus", "https://raw.githubusercontent.com/apache/camel-quarkus/main/pom.xml",
+                "https://raw.githubusercontent.com/apache/camel-quarkus/refs/tags/%s/pom.xml");
+
+        private final String title;
+        private final String cacheDirectory;
+        private final String mainUrl;
+        private final String releaseUrl;
+
+        Project(String title, String cacheDirectory, String mainUrl, String releaseUrl) {
+            this.title = title;
+            this.cacheDirectory = cacheDirectory;
+            this.mainUrl = mainUrl;
+            this.releaseUrl = releaseUrl;
+        }
+
+        private String url(String release) {
+            return MAIN.equals(release) ? mainUrl : releaseUrl.formatted(release);
+        }
+    }
+
+    private static final Pattern RELEASE = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+    private static final XMLInputFactory XML_FACTORY = createXmlInputFactory();
+
+    private record Entry(Map<String, String> properties, Instant fetchedAt) {
+    }
+
+    private final CamelCatalog camelCatalog;
+    private final Path directory;
+    private final Duration mainTtl;
+    private final int prefetchCount;
+    private final HttpClient client;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ParentPomStore(CamelCatalog camelCatalog,
+                          @ConfigProperty(name = "compatible-versions.cache.dir", defaultValue = "~/.camel-catalog-mcp/poms") String directory,
+                          @ConfigProperty(name = "compatible-versions.main.ttl", defaultValue = "PT1H") Duration mainTtl,
+                          @ConfigProperty(name = "compatible-versions.prefetch.count", defaultValue = "0") int prefetchCount) {
+        this.camelCatalog = camelCatalog;
+        this.directory = Path.of(FSUtil.expandHome(directory));
+        this.mainTtl = mainTtl;
+        this.prefetchCount = prefetchCount;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    void prefetch(@Observes StartupEvent event) {
+        if (prefetchCount <= 0) {
+            return;
+        }
+        List<String> releases = camelCatalog.camelReleases().stream()
+                .filter(release -> release.getVersion() != null && release.getDate() != null)
+                .sorted(Comparator.comparing(ReleaseModel::getDate).reversed())
+                .limit(prefetchCount)
+                .map(ReleaseModel::getVersion)
+                .toList();
+        Thread.ofVirtual().name("parent-pom-prefetch").start(() -> {
+            for (String release : releases) {
+                try {
+                    properties(release);
+                } catch (IOException | RuntimeException e) {
+                    Log.debugf("Failed to prefetch the parent pom of Camel %s: %s", release, e.getMessage());
+                }
+            }
+            Log.infof("Prefetched the parent poms of %d Camel releases", releases.size());
+        });
+    }
+
+    /**
+     * Returns the parent pom properties of a release, or of {@code main} for the latest development version, in
+     * document order.
+     *
+     * @throws IllegalArgumentException if the release is not a valid version
+     * @throws IOException              if the pom is neither cached nor can be fetched
+     */
+    public Map<String, String> properties(String release) throws IOException {
+        return properties(Project.CAMEL, release);
+    }
+
+    /**
+     * Returns the pom properties of a release of the given project, or of its {@code main} branch, in document order.
+     *
+     * @throws IllegalArgumentException if the release is not a valid version
+     * @throws IOException              if the pom is neither cached nor can be fetched
+     */
+    public Map<String, String> properties(Project project, String release) throws IOException {
+        if (!RELEASE.matcher(release).matches()) {
+            throw new IllegalArgumentException("Invalid " + project.title + " release '" + release + "'");
+        }
+        boolean main = MAIN.equalsIgnoreCase(release);
+        String version = main ? MAIN : release;
+
+        Entry entry = entries.computeIfAbsent(project.name() + ":" + version, key -> read(project, version));
+        if (entry != null && (!main || entry.fetchedAt().plus(mainTtl).isAfter(Instant.now()))) {
+            return entry.properties();
+        }
+
+        try {
+            Entry fetched = new Entry(fetch(project.url(version)), Instant.now());
+            entries.put(project.name() + ":" + version, fetched);
+            write(project, version, fetched);
+            return fetched.properties();
+        } catch (IOException e) {
+            if (entry != null) {
+                Log.warnf("Serving the pom of %s %s fetched at %s: %s", project.title, version, entry.fetchedAt(), e.getMessage());
+                return entry.properties();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the pom properties of a release of the given project if they are cached in memory or on disk, without
+     * going to the network, else {@code null}.
+     *
+     * @throws IllegalArgumentException if the release is not a valid version
+     */
+    public Map<String, String> cachedProperties(Project project, String release) {
+        if (!RELEASE.matcher(release).matches()) {
+            throw new IllegalArgumentException("Invalid " + project.title + " release '" + release + "'");
+        }
+        String version = MAIN.equalsIgnoreCase(release) ? MAIN : release;
+        Entry entry = entries.computeIfAbsent(project.name() + ":" + version, key -> read(project, version));
+        return entry != null ? entry.properties() : null;
+    }
+
+    private Map<String, String> fetch(String url) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET().build();
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + url, e);
+        } catch (IOException e) {
+            throw new IOException("Failed to fetch " + url + ": "
+                    + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()), e);
+        }
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Failed to fetch parent pom.xml from " + url + ". Status code: " + response.statusCode());
+            }
+            return parseProperties(body);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse parent pom.xml from " + url + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the children of the first {@code <properties>} element, without reading the rest of the document.
+     */
+    static Map<String, String> parseProperties(InputStream pom) throws XMLStreamException {
+        Map<String, String> properties = new LinkedHashMap<>();
+        XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(pom);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "properties".equals(reader.getLocalName())) {
+                    while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        properties.put(name, reader.getElementText());
+                    }
+                    break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return properties;
+    }
+
+    private Entry read(Project project, String release) {
+        Path file = file(project, release);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            JsonObject json = new JsonObject(Files.readString(file));
+            Map<String, String> properties = new LinkedHashMap<>();
+            json.getJsonObject("properties").forEach(property ->
+                    properties.put(property.getKey(), Objects.toString(property.getValue(), "")));
+            return new Entry(properties, Instant.parse(json.getString("fetchedAt")));
+        } catch (IOException | RuntimeException e) {
+            Log.warnf("Ignoring unreadable pom cache entry %s: %s", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(Project project, String release, Entry entry) {
+        JsonObject properties = new JsonObject();
+        entry.properties().forEach(properties::put);
+        JsonObject json = new JsonObject()
+                .put("fetchedAt", entry.fetchedAt().toString())
+                .put("properties", properties);
+        try {
+            Path target = file(project, release);
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), release, ".tmp");
+            Files.writeString(tmp, json.encode());
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Log.warnf("Failed to write pom cache entry for %s %s: %s", project.title, release, e.getMessage());
+        }
+    }
+
+    private Path file(Project project, String release) {
+        return directory.resolve(project.cacheDirectory).resolve(release + ".json");
+    }
+}
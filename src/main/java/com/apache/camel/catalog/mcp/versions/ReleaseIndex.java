@@ -0,0 +1,119 @@
+package com.apache.camel.catalog.mcp.versions;
+
+import org.apache.camel.tooling.model.ReleaseModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The releases of a catalog sorted once, latest first, on their parsed {@link Version}.
+ * <p>
+ * A page of the unfiltered list is a sublist view. Releases of a major line are contiguous in that order, so the major
+ * filter narrows the list with two binary searches; the LTS and date filters then scan only what remains.
+ */
+public final class ReleaseIndex {
+
+    /**
+     * A page of releases and the number of releases matching the filters.
+     */
+    public record Page(List<ReleaseModel> releases, int total) {
+    }
+
+    private final List<ReleaseModel> releases;
+    private final List<Version> versions;
+
+    private ReleaseIndex(List<ReleaseModel> releases, List<Version> versions) {
+        this.releases = releases;
+        this.versions = versions;
+    }
+
+    /**
+     * Sorts the releases latest first, releases without a valid version last.
+     */
+    public static ReleaseIndex of(List<ReleaseModel> releases) {
+        record Parsed(ReleaseModel model, Version version) {
+        }
+
+        List<Parsed> parsed = new ArrayList<>(releases != null ? releases.size() : 0);
+        if (releases != null) {
+            for (ReleaseModel release : releases) {
+                Version version = null;
+                try {
+                    version = release.getVersion() != null ? Version.parse(release.getVersion()) : null;
+                } catch (IllegalArgumentException e) {
+                    // sorted last
+                }
+                parsed.add(new Parsed(release, version));
+            }
+        }
+        parsed.sort(Comparator.comparing(Parsed::version, Comparator.nullsFirst(Comparator.<Version>naturalOrder())).reversed());
+
+        List<ReleaseModel> models = new ArrayList<>(parsed.size());
+        List<Version> versions = new ArrayList<>(parsed.size());
+        for (Parsed release : parsed) {
+            models.add(release.model());
+            versions.add(release.version());
+        }
+        return new ReleaseIndex(Collections.unmodifiableList(models), Collections.unmodifiableList(versions));
+    }
+
+    public int size() {
+        return releases.size();
+    }
+
+    /**
+     * Returns a page of the releases matching the filters, latest first.
+     *
+     * @param ltsOnly  only the long term support releases
+     * @param fromDate only the releases published on or after this date ({@code yyyy-MM-dd}), if not {@code null}
+     * @param toDate   only the releases published on or before this date ({@code yyyy-MM-dd}), if not {@code null}
+     * @param major    only the releases of this major version, if not {@code null}
+     * @param limit    the page size, the rest of the releases when {@code null} or not positive
+     */
+    public Page query(boolean ltsOnly, String fromDate, String toDate, Integer major, int offset, Integer limit) {
+        List<ReleaseModel> candidates = major != null ? majorLine(major) : releases;
+        if (ltsOnly || fromDate != null || toDate != null) {
+            List<ReleaseModel> filtered = new ArrayList<>();
+            for (ReleaseModel release : candidates) {
+                if ((!ltsOnly || "lts".equalsIgnoreCase(release.getKind()))
+                        && (fromDate == null || (release.getDate() != null && release.getDate().compareTo(fromDate) >= 0))
+                        && (toDate == null || (release.getDate() != null && release.getDate().compareTo(toDate) <= 0))) {
+                    filtered.add(release);
+                }
+            }
+            candidates = filtered;
+        }
+
+        int from = Math.min(Math.max(0, offset), candidates.size());
+        int to = limit != null && limit > 0 ? (int) Math.min((long) from + limit, candidates.size()) : candidates.size();
+        return new Page(candidates.subList(from, to), candidates.size());
+    }
+
+    private List<ReleaseModel> majorLine(int major) {
+        // latest first: the line starts after every version of the next major and ends before the end of the previous
+        int start = firstAtOrBelow(Version.endOf(major));
+        int end = firstAtOrBelow(Version.endOf(major - 1));
+        return releases.subList(start, Math.max(start, end));
+    }
+
+    /**
+     * Index of the first release whose version is at most {@code bound}, the versions being sorted in descending
+     * order with the releases without a version at the end.
+     */
+    private int firstAtOrBelow(Version bound) {
+        int low = 0;
+        int high = versions.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Version version = versions.get(middle);
+            if (version != null && version.compareTo(bound) > 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
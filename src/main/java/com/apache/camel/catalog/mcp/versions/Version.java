@@ -0,0 +1,89 @@
+package com.apache.camel.catalog.mcp.versions;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A parsed {@code major.minor.patch[-qualifier]} version, such as {@code 4.14.0}, {@code 4.0.0-M2},
+ * {@code 3.0.0-RC1} or {@code 4.15.0-SNAPSHOT}.
+ * <p>
+ * Versions are ordered on their numbers, then on their qualifiers as Maven orders them: milestones, then release
+ * candidates, then snapshots, then the release itself. Unknown qualifiers come first, in alphabetical order.
+ */
+public record Version(int major, int minor, int patch, Qualifier qualifier, int qualifierNumber, String qualifierText)
+        implements Comparable<Version> {
+
+    public enum Qualifier {
+        OTHER, MILESTONE, RELEASE_CANDIDATE, SNAPSHOT, RELEASE
+    }
+
+    private static final Pattern VERSION = Pattern.compile("(\\d+)(?:\\.(\\d+))?(?:\\.(\\d+))?(?:[.-](.+))?");
+    private static final Pattern NUMBERED_QUALIFIER = Pattern.compile("([A-Za-z]+)[.-]?(\\d*)");
+
+    private static final Comparator<Version> ORDER = Comparator.comparingInt(Version::major)
+            .thenComparingInt(Version::minor)
+            .thenComparingInt(Version::patch)
+            .thenComparing(Version::qualifier)
+            .thenComparingInt(Version::qualifierNumber)
+            .thenComparing(version -> version.qualifierText() != null ? version.qualifierText() : "");
+
+    /**
+     * A version after every version of the given major line.
+     */
+    public static Version endOf(int major) {
+        return new Version(major, Integer.MAX_VALUE, Integer.MAX_VALUE, Qualifier.RELEASE, 0, null);
+    }
+
+    /**
+     * Parses a version, missing minor and patch numbers being 0.
+     *
+     * @throws IllegalArgumentException if the text does not start with a version number
+     */
+    public static Version parse(String text) {
+        Matcher matcher = text != null ? VERSION.matcher(text.strip()) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new IllegalArgumentException("Invalid version '" + text + "', expected a version such as '4.4' or '4.4.0'");
+        }
+        int major = Integer.parseInt(matcher.group(1));
+        int minor = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+        int patch = matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : 0;
+        String qualifier = matcher.group(4);
+        if (qualifier == null) {
+            return new Version(major, minor, patch, Qualifier.RELEASE, 0, null);
+        }
+
+        Matcher numbered = NUMBERED_QUALIFIER.matcher(qualifier);
+        if (numbered.matches()) {
+            int number = numbered.group(2).isEmpty() ? 0 : Integer.parseInt(numbered.group(2));
+            switch (numbered.group(1).toUpperCase(Locale.ROOT)) {
+                case "M", "MILESTONE":
+                    return new Version(major, minor, patch, Qualifier.MILESTONE, number, qualifier);
+                case "RC", "CR":
+                    return new Version(major, minor, patch, Qualifier.RELEASE_CANDIDATE, number, qualifier);
+                case "SNAPSHOT":
+                    return new Version(major, minor, patch, Qualifier.SNAPSHOT, number, qualifier);
+                case "GA", "FINAL", "RELEASE":
+                    return new Version(major, minor, patch, Qualifier.RELEASE, 0, null);
+                default:
+                    break;
+            }
+        }
+        return new Version(major, minor, patch, Qualifier.OTHER, 0, qualifier);
+    }
+
+    public boolean isRelease() {
+        return qualifier == Qualifier.RELEASE;
+    }
+
+    @Override
+    public int compareTo(Version other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return major + "." + minor + "." + patch + (qualifierText != null ? "-" + qualifierText : "");
+    }
+}
@@ -0,0 +1,89 @@
+package com.apache.camel.catalog.mcp;
+
+import com.felipestanzani.jtoon.JToon;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link ToonWriter} writes the same TOON as {@code JToon} encoding the equivalent JSON, which is what the tools
+ * returned before the writer replaced it.
+ */
+class ToonWriterTest {
+
+    private static final List<String> COLUMNS = List.of("name", "kind", "required", "defaultValue", "description");
+
+    /**
+     * Option rows covering the values TOON quotes or writes specially.
+     */
+    private static final List<List<Object>> ROWS = List.of(
+            Arrays.asList("timeout", "parameter", false, 0, "Timeout in millis"),
+            Arrays.asList("mode", "path", true, "05", "Either a, b or c"),
+            Arrays.asList("empty", "parameter", false, "", "key: value"),
+            Arrays.asList("flag", "parameter", false, "true", "Says \"yes\" [or] {no}"),
+            Arrays.asList("offset", "parameter", false, "-1", "Lines\nand\ttabs\\"),
+            Arrays.asList("ratio", "parameter", false, 1.5, null),
+            Arrays.asList("padded", "parameter", false, " spaced ", "null"),
+            Arrays.asList("number", "parameter", false, "0", "1e5"));
+
+    @Test
+    void writesFieldsAsJToon() {
+        ToonWriter writer = new ToonWriter();
+        JsonObject json = new JsonObject();
+        for (List<Object> row : ROWS) {
+            writer.field((String) row.get(0), row.get(3));
+            json.put((String) row.get(0), row.get(3));
+        }
+        writer.field("note", "The component foo does not exist, resolved to bar");
+        json.put("note", "The component foo does not exist, resolved to bar");
+        writer.field("missing", null);
+        json.putNull("missing");
+        writer.field("total", 42);
+        json.put("total", 42);
+
+        assertEquals(JToon.encodeJson(json.encode()), writer.toString());
+    }
+
+    @Test
+    void writesArraysAsJToon() {
+        List<String> values = List.of("a", "b,c", "true", "", "-x", "07", "d:e");
+        ToonWriter writer = new ToonWriter().field("name", "enum").array("enum", values);
+        JsonObject json = new JsonObject().put("name", "enum").put("enum", new JsonArray(values));
+
+        assertEquals(JToon.encodeJson(json.encode()), writer.toString());
+    }
+
+    @Test
+    void writesTablesAsJToon() {
+        ToonWriter writer = new ToonWriter()
+                .field("total", 20)
+                .field("offset", 4)
+                .table("options", COLUMNS, ROWS.size());
+        JsonArray options = new JsonArray();
+        for (List<Object> row : ROWS) {
+            writer.row();
+            JsonObject option = new JsonObject();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                writer.cell(row.get(i));
+                option.put(COLUMNS.get(i), row.get(i));
+            }
+            options.add(option);
+        }
+        JsonObject json = new JsonObject().put("total", 20).put("offset", 4).put("options", options);
+
+        assertEquals(JToon.encodeJson(json.encode()), writer.toString());
+    }
+
+    @Test
+    void writesEmptyTableAsJToon() {
+        ToonWriter writer = new ToonWriter().field("component", "foo").table("options", COLUMNS, 0);
+        JsonObject json = new JsonObject().put("component", "foo").put("options", new JsonArray());
+
+        assertEquals(JToon.encodeJson(json.encode()), writer.toString());
+    }
+}
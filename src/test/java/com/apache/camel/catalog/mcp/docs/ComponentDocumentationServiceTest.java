@@ -0,0 +1,184 @@
+package com.apache.camel.catalog.mcp.docs;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fetching, caching and revalidation of component documentation against a local HTTP server standing in for the
+ * Camel website.
+ */
+class ComponentDocumentationServiceTest {
+
+    private static final String PAGE_PATH = "/components/9.9.x/foo-component.html";
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 01 Jan 2025 00:00:00 GMT";
+
+    /**
+     * A request received by the server, with its validators.
+     */
+    private record Request(String path, String ifNoneMatch, String ifModifiedSince) {
+    }
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile int status = 200;
+    private volatile String body = page("Foo component", "Sends messages to foo.");
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        requests.add(new Request(exchange.getRequestURI().getPath(), ifNoneMatch, ifModifiedSince));
+
+        if (status == 200 && ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] content = (status == 200 ? body : "failure").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+        if (status == 200) {
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+        }
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    private static String page(String title, String text) {
+        return "<html><body><article><h1>" + title + "</h1><p>" + text + "</p></article></body></html>";
+    }
+
+    private ComponentDocumentationService service(Duration ttl) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/components/";
+        return new ComponentDocumentationService(new DocumentationCache(cacheDir.toString()), false, baseUrl, ttl, 16);
+    }
+
+    private static ComponentModel component() {
+        ComponentModel model = new ComponentModel();
+        model.setName("foo");
+        model.setVersion("9.9.0");
+        return model;
+    }
+
+    @Test
+    void fetchesConvertsAndCachesPage() throws IOException {
+        ComponentDocumentationService.ComponentDocumentation documentation = service(Duration.ofHours(1)).documentation(component());
+
+        assertEquals(1, requests.size());
+        assertEquals(PAGE_PATH, requests.get(0).path());
+        assertNull(requests.get(0).ifNoneMatch());
+        assertTrue(documentation.url().endsWith(PAGE_PATH));
+        assertTrue(documentation.markdown().contains("Foo component"), documentation.markdown());
+        assertTrue(documentation.markdown().contains("Sends messages to foo."), documentation.markdown());
+
+        assertTrue(Files.isRegularFile(cacheDir.resolve("9.9").resolve("foo.md")));
+        assertTrue(Files.readString(cacheDir.resolve("9.9").resolve("foo.properties")).contains("etag"));
+    }
+
+    @Test
+    void servesCachedPageWithinTtlWithoutRequest() throws IOException {
+        service(Duration.ofHours(1)).documentation(component());
+        body = page("Changed", "Changed.");
+
+        // a new service has nothing in memory, so this is served from the disk cache
+        ComponentDocumentationService.ComponentDocumentation documentation = service(Duration.ofHours(1)).documentation(component());
+
+        assertEquals(1, requests.size());
+        assertTrue(documentation.markdown().contains("Foo component"), documentation.markdown());
+    }
+
+    @Test
+    void revalidatesStalePageWithValidators() throws IOException {
+        service(Duration.ZERO).documentation(component());
+
+        ComponentDocumentationService.ComponentDocumentation documentation = service(Duration.ZERO).documentation(component());
+
+        assertEquals(2, requests.size());
+        assertEquals(ETAG, requests.get(1).ifNoneMatch());
+        assertEquals(LAST_MODIFIED, requests.get(1).ifModifiedSince());
+        assertTrue(documentation.markdown().contains("Foo component"), documentation.markdown());
+    }
+
+    @Test
+    void downloadsAgainWhenPageChanged() throws IOException {
+        service(Duration.ZERO).documentation(component());
+        body = page("Foo component v2", "Sends messages to foo, faster.");
+        // a new ETag makes the server answer the conditional request with the new page
+        Files.writeString(cacheDir.resolve("9.9").resolve("foo.properties"),
+                Files.readString(cacheDir.resolve("9.9").resolve("foo.properties")).replace("v1", "v0"));
+
+        ComponentDocumentationService.ComponentDocumentation documentation = service(Duration.ZERO).documentation(component());
+
+        assertEquals(2, requests.size());
+        assertTrue(documentation.markdown().contains("faster"), documentation.markdown());
+    }
+
+    @Test
+    void servesStalePageWhenWebsiteFails() throws IOException {
+        service(Duration.ZERO).documentation(component());
+        status = 500;
+
+        ComponentDocumentationService.ComponentDocumentation documentation = service(Duration.ZERO).documentation(component());
+
+        assertEquals(2, requests.size());
+        assertTrue(documentation.markdown().contains("Foo component"), documentation.markdown());
+    }
+
+    @Test
+    void servesStalePageWhenWebsiteIsUnreachable() throws IOException {
+        ComponentDocumentationService service = service(Duration.ZERO);
+        service.documentation(component());
+        server.stop(0);
+
+        ComponentDocumentationService.ComponentDocumentation documentation = service(Duration.ZERO).documentation(component());
+
+        assertTrue(documentation.markdown().contains("Foo component"), documentation.markdown());
+    }
+
+    @Test
+    void failsWithoutCachedPage() {
+        status = 404;
+
+        IOException e = assertThrows(IOException.class, () -> service(Duration.ofHours(1)).documentation(component()));
+
+        assertTrue(e.getMessage().contains(PAGE_PATH), e.getMessage());
+    }
+}